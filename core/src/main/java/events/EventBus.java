@@ -0,0 +1,251 @@
+package events;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Delivers the event stream of one table to any number of consumers, each on
+ * its own thread.
+ *
+ * Events are the longs encoded by spectator.TableDelta: ROUND_STARTED,
+ * CARD_DEALT (a dealer draw is a CARD_DEALT for the dealer seat at position 2
+ * or later), HOLE_CARD_DEALT, HOLE_CARD_REVEALED, SEAT_SETTLED and
+ * ROUND_ENDED. Replaying them rebuilds every hand and result.
+ *
+ * The table (a single producer) writes each event into a preallocated ring
+ * and publishes it with one ordered write of its sequence, so publishing
+ * never allocates or locks. Each consumer thread follows the published
+ * sequence and hands every event that arrived since its last pass to its
+ * handler as one batch. Unlike a SpectatorChannel, no consumer ever misses an
+ * event: if the slowest consumer is a whole ring behind, the producer waits
+ * for it. Adding a consumer therefore costs the table nothing as long as every
+ * consumer keeps up on average.
+ *
+ * A consumer that finds nothing to do spins briefly, then parks until the
+ * producer publishes again, so an idle consumer costs no wakeups at all.
+ */
+public class EventBus implements AutoCloseable {
+
+	/**
+	 * Default ring capacity, a power of two.
+	 */
+	public static final int DEFAULT_CAPACITY = 1 << 14;
+
+	// Idle passes a consumer spins before it parks
+	private static final int SPIN_TRIES = 100;
+
+	// An EventBus has-a ring of encoded events
+	private final long[] ring;
+	// Capacity minus one, for masking sequences into the ring
+	private final int mask;
+	// Sequence of the last published event, or -1
+	private final AtomicLong cursor = new AtomicLong(-1);
+	// Sequence the next publish gets; used only by the producer
+	private long nextSequence = 0;
+	// Lowest consumer sequence seen by the producer; a lower bound of the real one
+	private long gate = -1;
+	// An EventBus has-many consumers; replaced as a whole when one is added
+	private volatile Consumer[] consumers = new Consumer[0];
+	// Set by close(); later publishes are dropped, and consumers finish what
+	// is published, then exit
+	private volatile boolean closing = false;
+
+	/**
+	 * Creates a bus with the default capacity.
+	 */
+	public EventBus() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a bus whose ring holds the given number of events.
+	 *
+	 * @param capacity ring size; must be a power of two
+	 */
+	public EventBus(int capacity) {
+		if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+		}
+		ring = new long[capacity];
+		mask = capacity - 1;
+	}
+
+	/**
+	 * Starts a consumer thread that receives every event published from now
+	 * on. Call before publishing starts or from the producer's thread.
+	 *
+	 * @param name    the consumer's name, used for its thread
+	 * @param handler processes the events
+	 * @return the consumer
+	 */
+	public synchronized Consumer addConsumer(String name, EventHandler handler) {
+		if (closing) {
+			throw new IllegalStateException("Event bus is closed");
+		}
+		Consumer consumer = new Consumer(name, handler, cursor.get());
+		Consumer[] grown = Arrays.copyOf(consumers, consumers.length + 1);
+		grown[consumers.length] = consumer;
+		consumers = grown;
+		consumer.thread.start();
+		return consumer;
+	}
+
+	/**
+	 * Publishes one event. Called only by the table's thread; waits only if
+	 * the slowest consumer is a whole ring behind. Once the bus is closing the
+	 * event is dropped, never written over one a consumer has yet to read.
+	 *
+	 * @param event the encoded event
+	 */
+	public void publish(long event) {
+		if (closing) {
+			return;
+		}
+		long sequence = nextSequence;
+		long wrapPoint = sequence - ring.length;
+		if (wrapPoint > gate) {
+			gate = awaitConsumers(wrapPoint);
+			if (gate < wrapPoint) {
+				return; // closed while waiting; the slot is still unread
+			}
+		}
+		ring[(int) (sequence & mask)] = event;
+		// a volatile write, so a consumer about to park either sees this event
+		// or is seen waiting below
+		cursor.set(sequence);
+		nextSequence = sequence + 1;
+		for (Consumer consumer : consumers) {
+			if (consumer.waiting) {
+				LockSupport.unpark(consumer.thread);
+			}
+		}
+	}
+
+	// Helper: wait until every consumer has passed the given sequence, unless
+	// closing; returns the slowest consumer's sequence
+	private long awaitConsumers(long wrapPoint) {
+		long minimum;
+		while ((minimum = minimumSequence()) < wrapPoint && !closing) {
+			LockSupport.parkNanos(1_000);
+		}
+		return minimum;
+	}
+
+	// Helper: the sequence of the slowest consumer, or the cursor if there is none
+	private long minimumSequence() {
+		long minimum = cursor.get();
+		for (Consumer consumer : consumers) {
+			minimum = Math.min(minimum, consumer.sequence.get());
+		}
+		return minimum;
+	}
+
+	/**
+	 * @return the sequence of the last published event, or -1
+	 */
+	public long getCursor() {
+		return cursor.get();
+	}
+
+	/**
+	 * Lets every consumer process the events already published, then stops
+	 * the consumer threads. Events published afterwards are not delivered.
+	 */
+	@Override
+	public void close() {
+		Consumer[] stopping;
+		synchronized (this) {
+			closing = true;
+			stopping = consumers;
+		}
+		for (Consumer consumer : stopping) {
+			LockSupport.unpark(consumer.thread);
+			try {
+				consumer.thread.join(TimeUnit.SECONDS.toMillis(10));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * One consumer's thread and position in the event stream.
+	 */
+	public final class Consumer implements Runnable {
+
+		// A Consumer has-a handler
+		private final EventHandler handler;
+		// Sequence of the last event handled
+		private final AtomicLong sequence;
+		// A Consumer has-a thread
+		private final Thread thread;
+		// True while the thread is parked, or about to park, for lack of events
+		private volatile boolean waiting = false;
+
+		private Consumer(String name, EventHandler handler, long start) {
+			this.handler = handler;
+			this.sequence = new AtomicLong(start);
+			thread = new Thread(this, name);
+			thread.setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			long next = sequence.get() + 1;
+			int idle = 0;
+			while (true) {
+				long available = cursor.get();
+				if (available >= next) {
+					for (long s = next; s <= available; s++) {
+						try {
+							handler.onEvent(ring[(int) (s & mask)], s, s == available);
+						} catch (RuntimeException e) {
+							e.printStackTrace(); // one bad event must not stall the table
+						}
+					}
+					sequence.lazySet(available);
+					next = available + 1;
+					idle = 0;
+				} else if (closing) {
+					if (cursor.get() < next) {
+						return;
+					}
+				} else if (idle < SPIN_TRIES) {
+					idle++;
+					Thread.onSpinWait();
+				} else {
+					// sleep until publish or close unparks this thread
+					waiting = true;
+					if (cursor.get() < next && !closing) {
+						LockSupport.park(this);
+					}
+					waiting = false;
+				}
+			}
+		}
+
+		/**
+		 * @return the sequence of the last event this consumer handled
+		 */
+		public long getSequence() {
+			return sequence.get();
+		}
+
+		/**
+		 * @return the number of published events not yet handled
+		 */
+		public long getLag() {
+			return cursor.get() - sequence.get();
+		}
+
+		/**
+		 * @return the consumer's thread name
+		 */
+		public String getName() {
+			return thread.getName();
+		}
+	}
+}
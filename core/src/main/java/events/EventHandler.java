@@ -0,0 +1,20 @@
+package events;
+
+/**
+ * Processes table events from an {@link EventBus}, on the consumer's own
+ * thread.
+ */
+public interface EventHandler {
+
+	/**
+	 * Called for each event, in publication order. Events published while the
+	 * consumer was busy arrive together as a batch; the last event of each
+	 * batch is flagged so work such as a file write can be done once per
+	 * batch instead of once per event.
+	 *
+	 * @param event      the encoded event; decode it with spectator.TableDelta
+	 * @param sequence   the event's position in the stream, from 0
+	 * @param endOfBatch true for the last event currently available
+	 */
+	void onEvent(long event, long sequence, boolean endOfBatch);
+}
@@ -0,0 +1,50 @@
+package events;
+
+import model.FileManager;
+import model.GameResult;
+import spectator.DeltaType;
+import spectator.TableDelta;
+
+/**
+ * RecordWriter is-a EventHandler that keeps the wins/losses record from
+ * SEAT_SETTLED events and saves it through a FileManager, once per batch, on
+ * the consumer's thread instead of the table's.
+ */
+public class RecordWriter implements EventHandler {
+
+	// A RecordWriter has-a fileManager
+	private final FileManager fileManager;
+	// A RecordWriter has-a count of wins and losses
+	private int wins, losses;
+	// True when the record changed since it was last saved
+	private boolean dirty = false;
+
+	/**
+	 * @param fileManager the record store
+	 * @param wins        wins recorded so far
+	 * @param losses      losses recorded so far
+	 */
+	public RecordWriter(FileManager fileManager, int wins, int losses) {
+		this.fileManager = fileManager;
+		this.wins = wins;
+		this.losses = losses;
+	}
+
+	@Override
+	public void onEvent(long event, long sequence, boolean endOfBatch) {
+		if (TableDelta.type(event) == DeltaType.SEAT_SETTLED) {
+			GameResult result = TableDelta.result(event);
+			if (result == GameResult.WIN) {
+				wins++;
+				dirty = true;
+			} else if (result == GameResult.LOSS) {
+				losses++;
+				dirty = true;
+			}
+		}
+		if (endOfBatch && dirty) {
+			fileManager.saveRecord(wins, losses);
+			dirty = false;
+		}
+	}
+}
@@ -0,0 +1,240 @@
+package history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Where each block of a hand-history archive starts and which rounds it
+ * holds. Written after the last block when an archive is closed; an archive
+ * whose writer died is indexed again by walking the block headers.
+ *
+ * Archive layout: a file header (magic, version), then blocks, each a header
+ * (compressed length, raw length, first round index, round count, CRC32 of
+ * the compressed bytes) followed by the Deflate-compressed rounds, then the
+ * index (one entry per block) and a trailer (index offset, block count,
+ * trailer magic).
+ */
+final class BlockIndex {
+
+	static final int MAGIC = 0x424A4848; // "BJHH"
+	static final int VERSION = 1;
+	static final int FILE_HEADER_SIZE = 4 + 4;
+	// compressed length, raw length, first round index, round count, CRC32
+	static final int BLOCK_HEADER_SIZE = 4 + 4 + 8 + 4 + 4;
+	// index offset, block count, trailer magic
+	static final int TRAILER_SIZE = 8 + 4 + 4;
+	private static final int TRAILER_MAGIC = 0x49445845; // "IDXE"
+	// offset, then the block header fields
+	private static final int ENTRY_SIZE = 8 + BLOCK_HEADER_SIZE;
+
+	// Per block: file offset of its header, header fields
+	private long[] offsets = new long[16];
+	private int[] compressedLengths = new int[16];
+	private int[] rawLengths = new int[16];
+	private long[] firstRounds = new long[16];
+	private int[] roundCounts = new int[16];
+	private int[] checksums = new int[16];
+	// Number of blocks
+	private int size = 0;
+
+	/**
+	 * Records a block written at the given offset.
+	 */
+	void add(long offset, int compressedLength, int rawLength, long firstRound, int roundCount, int checksum) {
+		if (size == offsets.length) {
+			int grown = size * 2;
+			offsets = Arrays.copyOf(offsets, grown);
+			compressedLengths = Arrays.copyOf(compressedLengths, grown);
+			rawLengths = Arrays.copyOf(rawLengths, grown);
+			firstRounds = Arrays.copyOf(firstRounds, grown);
+			roundCounts = Arrays.copyOf(roundCounts, grown);
+			checksums = Arrays.copyOf(checksums, grown);
+		}
+		offsets[size] = offset;
+		compressedLengths[size] = compressedLength;
+		rawLengths[size] = rawLength;
+		firstRounds[size] = firstRound;
+		roundCounts[size] = roundCount;
+		checksums[size] = checksum;
+		size++;
+	}
+
+	/**
+	 * @param index a round index in the archive
+	 * @return the block holding it, or -1 if the archive has no such round
+	 */
+	int find(long index) {
+		if (index < 0 || index >= getRoundCount()) {
+			return -1;
+		}
+		int found = Arrays.binarySearch(firstRounds, 0, size, index);
+		return found >= 0 ? found : -found - 2;
+	}
+
+	int size() {
+		return size;
+	}
+
+	long getOffset(int block) {
+		return offsets[block];
+	}
+
+	int getCompressedLength(int block) {
+		return compressedLengths[block];
+	}
+
+	int getRawLength(int block) {
+		return rawLengths[block];
+	}
+
+	long getFirstRound(int block) {
+		return firstRounds[block];
+	}
+
+	int getRoundCount(int block) {
+		return roundCounts[block];
+	}
+
+	int getChecksum(int block) {
+		return checksums[block];
+	}
+
+	/**
+	 * @return the number of rounds in every block
+	 */
+	long getRoundCount() {
+		return size == 0 ? 0 : firstRounds[size - 1] + roundCounts[size - 1];
+	}
+
+	/**
+	 * @return the file offset just after the last block
+	 */
+	long getEnd() {
+		return size == 0 ? FILE_HEADER_SIZE
+				: offsets[size - 1] + BLOCK_HEADER_SIZE + compressedLengths[size - 1];
+	}
+
+	/**
+	 * Writes the block header of an indexed block.
+	 */
+	void writeHeader(ByteBuffer buffer, int block) {
+		writeHeader(buffer, compressedLengths[block], rawLengths[block], firstRounds[block], roundCounts[block],
+				checksums[block]);
+	}
+
+	/**
+	 * Writes a block header from its fields.
+	 */
+	static void writeHeader(ByteBuffer buffer, int compressedLength, int rawLength, long firstRound, int roundCount,
+			int checksum) {
+		buffer.putInt(compressedLength);
+		buffer.putInt(rawLength);
+		buffer.putLong(firstRound);
+		buffer.putInt(roundCount);
+		buffer.putInt(checksum);
+	}
+
+	/**
+	 * Writes the index and trailer at the end of the last block.
+	 */
+	void writeTo(FileChannel channel) throws IOException {
+		long indexOffset = getEnd();
+		ByteBuffer buffer = ByteBuffer.allocate(size * ENTRY_SIZE + TRAILER_SIZE);
+		for (int i = 0; i < size; i++) {
+			buffer.putLong(offsets[i]);
+			writeHeader(buffer, i);
+		}
+		buffer.putLong(indexOffset);
+		buffer.putInt(size);
+		buffer.putInt(TRAILER_MAGIC);
+		buffer.flip();
+		long position = indexOffset;
+		while (buffer.hasRemaining()) {
+			position += channel.write(buffer, position);
+		}
+		channel.truncate(position);
+	}
+
+	/**
+	 * Loads the index of an archive from its trailer, or rebuilds it from the
+	 * block headers if the archive was not closed, keeping every block that
+	 * is complete and intact.
+	 *
+	 * @param channel the archive
+	 * @return the index
+	 * @throws IOException if the file is not a hand-history archive
+	 */
+	static BlockIndex load(FileChannel channel) throws IOException {
+		long fileSize = channel.size();
+		ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+		readFully(channel, header, 0);
+		if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+			throw new IOException("Not a hand-history archive");
+		}
+		BlockIndex index = new BlockIndex();
+		if (fileSize >= FILE_HEADER_SIZE + TRAILER_SIZE) {
+			ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SIZE);
+			readFully(channel, trailer, fileSize - TRAILER_SIZE);
+			long indexOffset = trailer.getLong(0);
+			int blocks = trailer.getInt(8);
+			if (trailer.getInt(12) == TRAILER_MAGIC && blocks >= 0
+					&& indexOffset + (long) blocks * ENTRY_SIZE + TRAILER_SIZE == fileSize) {
+				ByteBuffer entries = ByteBuffer.allocate(blocks * ENTRY_SIZE);
+				readFully(channel, entries, indexOffset);
+				entries.flip();
+				for (int i = 0; i < blocks; i++) {
+					index.add(entries.getLong(), entries.getInt(), entries.getInt(), entries.getLong(), entries.getInt(),
+							entries.getInt());
+				}
+				return index;
+			}
+		}
+		return recover(channel, fileSize);
+	}
+
+	// Helper: walk the block headers, stopping at the first torn or corrupt block
+	private static BlockIndex recover(FileChannel channel, long fileSize) throws IOException {
+		BlockIndex index = new BlockIndex();
+		ByteBuffer header = ByteBuffer.allocate(BLOCK_HEADER_SIZE);
+		CRC32 crc = new CRC32();
+		long offset = FILE_HEADER_SIZE;
+		while (offset + BLOCK_HEADER_SIZE <= fileSize) {
+			header.clear();
+			readFully(channel, header, offset);
+			header.flip();
+			int compressedLength = header.getInt();
+			int rawLength = header.getInt();
+			long firstRound = header.getLong();
+			int roundCount = header.getInt();
+			int checksum = header.getInt();
+			if (compressedLength < 0 || offset + BLOCK_HEADER_SIZE + compressedLength > fileSize
+					|| firstRound != index.getRoundCount()) {
+				break;
+			}
+			ByteBuffer compressed = ByteBuffer.allocate(compressedLength);
+			readFully(channel, compressed, offset + BLOCK_HEADER_SIZE);
+			crc.reset();
+			crc.update(compressed.array(), 0, compressedLength);
+			if ((int) crc.getValue() != checksum) {
+				break;
+			}
+			index.add(offset, compressedLength, rawLength, firstRound, roundCount, checksum);
+			offset += BLOCK_HEADER_SIZE + compressedLength;
+		}
+		return index;
+	}
+
+	// Helper: fill a buffer from a file position
+	static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			int read = channel.read(buffer, position);
+			if (read < 0) {
+				throw new IOException("Unexpected end of archive");
+			}
+			position += read;
+		}
+	}
+}
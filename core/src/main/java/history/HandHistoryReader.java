@@ -0,0 +1,156 @@
+package history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads rounds back from a hand-history archive written by HandHistoryWriter.
+ *
+ * A round is found through the block index and only its block is read and
+ * decompressed, so looking up any round of a large archive touches a few
+ * kilobytes of it. The last decompressed block is kept, so reading rounds in
+ * order decompresses each block once. Rounds are decoded into a RoundRecord
+ * supplied by the caller.
+ *
+ * An archive whose writer did not close it is readable up to its last
+ * complete block. A reader sees the archive as it was when opened.
+ */
+public class HandHistoryReader implements AutoCloseable {
+
+	// A HandHistoryReader has-a archive file
+	private final FileChannel channel;
+	// A HandHistoryReader has-a block index
+	private final BlockIndex index;
+	// Reused decompressor and checksum
+	private final Inflater inflater = new Inflater();
+	private final CRC32 crc = new CRC32();
+	// Compressed bytes of the block being read
+	private ByteBuffer compressed = ByteBuffer.allocate(0);
+	// Raw bytes of the cached block, or -1 if none is cached
+	private byte[] raw = new byte[0];
+	private int cachedBlock = -1;
+	// Scan position in the cached block: the next round's index, offset and deltas base
+	private long nextRound;
+	private int nextOffset;
+	private long prevRound;
+	private long prevTime;
+
+	/**
+	 * Opens an archive for reading.
+	 *
+	 * @param path the archive file
+	 * @throws IOException if the file cannot be read or is not an archive
+	 */
+	public HandHistoryReader(Path path) throws IOException {
+		channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			index = BlockIndex.load(channel);
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * @return the number of rounds in the archive
+	 */
+	public long getRoundCount() {
+		return index.getRoundCount();
+	}
+
+	/**
+	 * Reads one round.
+	 *
+	 * @param round the round's index in the archive, from 0
+	 * @param into  receives the round
+	 * @throws IOException if the archive cannot be read or is corrupt
+	 */
+	public void read(long round, RoundRecord into) throws IOException {
+		int block = index.find(round);
+		if (block < 0) {
+			throw new IndexOutOfBoundsException("No round " + round + " in an archive of " + getRoundCount());
+		}
+		if (block != cachedBlock || round < nextRound) {
+			load(block);
+		}
+		while (nextRound <= round) {
+			nextOffset = RoundCodec.decode(raw, nextOffset, prevRound, prevTime, into);
+			prevRound = into.getRound();
+			prevTime = into.getTimestamp();
+			nextRound++;
+		}
+	}
+
+	/**
+	 * Streams rounds in order, from the given one to the end of the archive.
+	 * The action gets the same RoundRecord every time, refilled for each
+	 * round; copy what it needs to keep.
+	 *
+	 * @param from   the first round's index in the archive
+	 * @param action called once per round
+	 * @throws IOException if the archive cannot be read or is corrupt
+	 */
+	public void forEach(long from, Consumer<RoundRecord> action) throws IOException {
+		RoundRecord record = new RoundRecord();
+		long count = getRoundCount();
+		for (long round = Math.max(0, from); round < count; round++) {
+			read(round, record);
+			action.accept(record);
+		}
+	}
+
+	// Helper: read, check and decompress a block, and rewind the scan to its start
+	private void load(int block) throws IOException {
+		int length = index.getCompressedLength(block);
+		if (compressed.capacity() < length) {
+			compressed = ByteBuffer.allocate(length);
+		}
+		compressed.clear().limit(length);
+		BlockIndex.readFully(channel, compressed, index.getOffset(block) + BlockIndex.BLOCK_HEADER_SIZE);
+		crc.reset();
+		crc.update(compressed.array(), 0, length);
+		if ((int) crc.getValue() != index.getChecksum(block)) {
+			throw new IOException("Corrupt block " + block + " of hand-history archive");
+		}
+		int rawLength = index.getRawLength(block);
+		if (raw.length < rawLength) {
+			raw = new byte[rawLength];
+		}
+		cachedBlock = -1;
+		inflater.reset();
+		inflater.setInput(compressed.array(), 0, length);
+		try {
+			int inflated = 0;
+			while (inflated < rawLength && !inflater.finished()) {
+				int n = inflater.inflate(raw, inflated, rawLength - inflated);
+				if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+				inflated += n;
+			}
+			if (inflated != rawLength) {
+				throw new IOException("Truncated block " + block + " of hand-history archive");
+			}
+		} catch (DataFormatException e) {
+			throw new IOException("Corrupt block " + block + " of hand-history archive", e);
+		}
+		cachedBlock = block;
+		nextRound = index.getFirstRound(block);
+		nextOffset = 0;
+		prevRound = 0;
+		prevTime = 0;
+	}
+
+	@Override
+	public void close() throws IOException {
+		inflater.end();
+		channel.close();
+	}
+}
@@ -0,0 +1,115 @@
+package history;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import events.EventHandler;
+import spectator.DeltaType;
+import spectator.TableDelta;
+
+/**
+ * HandHistoryRecorder is-a EventHandler that rebuilds each round from the
+ * table's events and appends it to a hand-history archive when the round
+ * ends. Rounds abandoned before ROUND_ENDED are not archived. After the first
+ * failed write the recorder stops archiving, since the file may no longer
+ * accept writes; blocks written before it stay readable.
+ *
+ * Runs on an event bus consumer thread; close it after the bus so the last
+ * block and the index are written.
+ */
+public class HandHistoryRecorder implements EventHandler, AutoCloseable {
+
+	// A HandHistoryRecorder has-a writer
+	private final HandHistoryWriter writer;
+	// A HandHistoryRecorder has-a round being rebuilt
+	private final RoundRecord record = new RoundRecord();
+	// True between ROUND_STARTED and ROUND_ENDED
+	private boolean inRound = false;
+	// Highest seat index seen this round
+	private int lastSeat = 0;
+	// Set by the first failed write; no round is archived after it
+	private volatile boolean failed = false;
+
+	/**
+	 * @param path the archive file, created if missing and appended to otherwise
+	 * @throws IOException if the archive cannot be opened
+	 */
+	public HandHistoryRecorder(Path path) throws IOException {
+		this(new HandHistoryWriter(path));
+	}
+
+	/**
+	 * @param writer the archive to append to
+	 */
+	public HandHistoryRecorder(HandHistoryWriter writer) {
+		this.writer = writer;
+	}
+
+	@Override
+	public void onEvent(long event, long sequence, boolean endOfBatch) {
+		if (failed) {
+			return;
+		}
+		DeltaType type = TableDelta.type(event);
+		if (type == DeltaType.ROUND_STARTED) {
+			record.reset(TableDelta.round(event), 0, 1);
+			inRound = true;
+			lastSeat = 0;
+			return;
+		}
+		if (!inRound) {
+			return; // joined mid-round
+		}
+		int seat = TableDelta.seat(event);
+		int hand = seat == TableDelta.DEALER ? RoundRecord.DEALER : seat;
+		switch (type) {
+		case CARD_DEALT:
+		case HOLE_CARD_REVEALED:
+			record.setCard(hand, TableDelta.position(event), TableDelta.card(event));
+			break;
+		case SEAT_SETTLED:
+			record.setResult(seat, TableDelta.result(event));
+			break;
+		case ROUND_ENDED:
+			record.setTimestamp(System.currentTimeMillis());
+			record.setSeatCount(lastSeat + 1);
+			inRound = false;
+			try {
+				writer.append(record);
+			} catch (IOException e) {
+				failed = true;
+				System.err.println("Hand history disabled after a failed write: " + e);
+			}
+			return;
+		default:
+			return;
+		}
+		if (hand != RoundRecord.DEALER) {
+			lastSeat = Math.max(lastSeat, seat);
+		}
+	}
+
+	/**
+	 * @return the number of rounds in the archive
+	 */
+	public long getRoundCount() {
+		return writer.getRoundCount();
+	}
+
+	/**
+	 * @return true once a write has failed and the recorder stopped archiving
+	 */
+	public boolean isFailed() {
+		return failed;
+	}
+
+	/**
+	 * Writes the last block and the index, and closes the archive.
+	 *
+	 * @throws IOException if the archive cannot be written
+	 */
+	@Override
+	public void close() throws IOException {
+		writer.close();
+	}
+}
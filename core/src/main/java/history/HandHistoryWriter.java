@@ -0,0 +1,180 @@
+package history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Appends finished rounds to a hand-history archive.
+ *
+ * Rounds are encoded compactly (see RoundCodec) into a block buffer; every
+ * roundsPerBlock rounds the block is Deflate-compressed on its own and
+ * written after the previous one, and its position goes into the block
+ * index, which close() writes at the end of the file. Opening an existing
+ * archive continues after its last intact block, so an archive can grow
+ * across sessions, and one whose writer died keeps every completed block.
+ *
+ * Rounds are addressed by their index in the archive, from 0; each also
+ * keeps the table's own round number.
+ */
+public class HandHistoryWriter implements AutoCloseable {
+
+	/**
+	 * Where the game keeps its archive.
+	 */
+	public static final String DEFAULT_PATH = "data/history.bin";
+
+	/**
+	 * Rounds per block unless configured otherwise.
+	 */
+	public static final int DEFAULT_ROUNDS_PER_BLOCK = 1024;
+
+	// A HandHistoryWriter has-a archive file
+	private final FileChannel channel;
+	// A HandHistoryWriter has-a index of the blocks written so far
+	private final BlockIndex index;
+	// Rounds per block
+	private final int roundsPerBlock;
+	// Raw bytes of the block being filled
+	private byte[] raw = new byte[64 * 1024];
+	private int rawLength = 0;
+	// Rounds in the block being filled
+	private int blockRounds = 0;
+	// Round number and timestamp of the last round in the block, for deltas
+	private long prevRound = 0;
+	private long prevTime = 0;
+	// Reused compressor, output buffer and checksum
+	private final Deflater deflater = new Deflater();
+	private byte[] compressed = new byte[64 * 1024];
+	private final CRC32 crc = new CRC32();
+
+	/**
+	 * Opens an archive with the default block size.
+	 *
+	 * @param path the archive file, created if missing
+	 * @throws IOException if the file cannot be opened or is not an archive
+	 */
+	public HandHistoryWriter(Path path) throws IOException {
+		this(path, DEFAULT_ROUNDS_PER_BLOCK);
+	}
+
+	/**
+	 * Opens an archive, creating it if missing and otherwise appending to it.
+	 *
+	 * @param path           the archive file
+	 * @param roundsPerBlock rounds per compressed block
+	 * @throws IOException if the file cannot be opened or is not an archive
+	 */
+	public HandHistoryWriter(Path path, int roundsPerBlock) throws IOException {
+		if (roundsPerBlock < 1) {
+			throw new IllegalArgumentException("Rounds per block must be positive: " + roundsPerBlock);
+		}
+		this.roundsPerBlock = roundsPerBlock;
+		Path parent = path.toAbsolutePath().getParent();
+		Files.createDirectories(parent);
+		channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+		try {
+			if (channel.size() == 0) {
+				ByteBuffer header = ByteBuffer.allocate(BlockIndex.FILE_HEADER_SIZE);
+				header.putInt(BlockIndex.MAGIC).putInt(BlockIndex.VERSION).flip();
+				channel.write(header, 0);
+				index = new BlockIndex();
+			} else {
+				index = BlockIndex.load(channel);
+			}
+			channel.truncate(index.getEnd()); // drop the old index and any torn block
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Appends a round.
+	 *
+	 * @param record the round
+	 * @throws IOException if a finished block cannot be written
+	 */
+	public void append(RoundRecord record) throws IOException {
+		if (raw.length - rawLength < RoundCodec.MAX_ROUND_BYTES) {
+			raw = Arrays.copyOf(raw, raw.length * 2);
+		}
+		rawLength = RoundCodec.encode(record, prevRound, prevTime, raw, rawLength);
+		prevRound = record.getRound();
+		prevTime = record.getTimestamp();
+		if (++blockRounds >= roundsPerBlock) {
+			flush();
+		}
+	}
+
+	/**
+	 * Compresses and writes the rounds appended since the last block, so they
+	 * survive a crash. The next round starts a new block. If the write fails,
+	 * the rounds stay buffered and the archive keeps only earlier blocks.
+	 *
+	 * @throws IOException if the block cannot be written
+	 */
+	public void flush() throws IOException {
+		if (blockRounds == 0) {
+			return;
+		}
+		deflater.reset();
+		deflater.setInput(raw, 0, rawLength);
+		deflater.finish();
+		int length = 0;
+		while (!deflater.finished()) {
+			if (length == compressed.length) {
+				compressed = Arrays.copyOf(compressed, compressed.length * 2);
+			}
+			length += deflater.deflate(compressed, length, compressed.length - length);
+		}
+		crc.reset();
+		crc.update(compressed, 0, length);
+		int checksum = (int) crc.getValue();
+		long offset = index.getEnd();
+		long firstRound = index.getRoundCount();
+		ByteBuffer block = ByteBuffer.allocate(BlockIndex.BLOCK_HEADER_SIZE + length);
+		BlockIndex.writeHeader(block, length, rawLength, firstRound, blockRounds, checksum);
+		block.put(compressed, 0, length).flip();
+		long position = offset;
+		while (block.hasRemaining()) {
+			position += channel.write(block, position);
+		}
+		// indexed only once written, so a failed write leaves the index as it was
+		index.add(offset, length, rawLength, firstRound, blockRounds, checksum);
+		rawLength = 0;
+		blockRounds = 0;
+		prevRound = 0;
+		prevTime = 0;
+	}
+
+	/**
+	 * @return the number of rounds in the archive, including unflushed ones
+	 */
+	public long getRoundCount() {
+		return index.getRoundCount() + blockRounds;
+	}
+
+	/**
+	 * Writes the last block and the block index, and closes the file.
+	 *
+	 * @throws IOException if the file cannot be written
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			flush();
+			index.writeTo(channel);
+		} finally {
+			deflater.end();
+			channel.close();
+		}
+	}
+}
@@ -0,0 +1,182 @@
+package history;
+
+import model.Card;
+import model.GameResult;
+
+/**
+ * Encodes rounds into the raw (uncompressed) bytes of an archive block.
+ *
+ * A round is the zigzag varint difference of its round number and of its
+ * timestamp from the previous round of the block (from 0 for the first, so
+ * every block decodes on its own), then a bit stream padded to a byte: seat
+ * count minus one (3 bits); for each seat and then the dealer, the card count
+ * (5 bits) and each card's universe index (6 bits); and each seat's result (2
+ * bits, 0 for none). A one-seat round usually takes 6 to 8 bytes before
+ * compression.
+ */
+final class RoundCodec {
+
+	/**
+	 * Most bytes one round can take.
+	 */
+	static final int MAX_ROUND_BYTES = 2 * 10 + 150;
+
+	private static final GameResult[] RESULTS = GameResult.values();
+
+	private RoundCodec() {
+	}
+
+	/**
+	 * Encodes a round.
+	 *
+	 * @param record    the round
+	 * @param prevRound round number of the previous round in the block, or 0
+	 * @param prevTime  timestamp of the previous round in the block, or 0
+	 * @param out       the buffer, with at least MAX_ROUND_BYTES free at pos
+	 * @param pos       where to start writing
+	 * @return the position after the round
+	 */
+	static int encode(RoundRecord record, long prevRound, long prevTime, byte[] out, int pos) {
+		pos = writeVarLong(out, pos, zigzag(record.getRound() - prevRound));
+		pos = writeVarLong(out, pos, zigzag(record.getTimestamp() - prevTime));
+		long bits = 0;
+		int count = 0;
+		int seats = record.getSeatCount();
+		bits |= (long) (seats - 1) << count;
+		count += 3;
+		for (int hand = 0; hand <= seats; hand++) {
+			int index = hand == seats ? RoundRecord.DEALER : hand;
+			int cards = record.getCardCount(index);
+			bits |= (long) cards << count;
+			count += 5;
+			for (int i = 0; i < cards; i++) {
+				if (count > 56) {
+					pos = flush(out, pos, bits, count & ~7);
+					bits >>>= count & ~7;
+					count &= 7;
+				}
+				bits |= (long) record.getCard(index, i).getIndex() << count;
+				count += 6;
+			}
+			if (count > 56) {
+				pos = flush(out, pos, bits, count & ~7);
+				bits >>>= count & ~7;
+				count &= 7;
+			}
+		}
+		for (int seat = 0; seat < seats; seat++) {
+			GameResult result = record.getResult(seat);
+			bits |= (long) (result == null ? 0 : result.ordinal() + 1) << count;
+			count += 2;
+			if (count > 56) {
+				pos = flush(out, pos, bits, count & ~7);
+				bits >>>= count & ~7;
+				count &= 7;
+			}
+		}
+		return flush(out, pos, bits, (count + 7) & ~7);
+	}
+
+	/**
+	 * Decodes a round written by encode.
+	 *
+	 * @param in        the raw block
+	 * @param pos       where the round starts
+	 * @param prevRound round number of the previous round in the block, or 0
+	 * @param prevTime  timestamp of the previous round in the block, or 0
+	 * @param record    receives the round
+	 * @return the position after the round
+	 */
+	static int decode(byte[] in, int pos, long prevRound, long prevTime, RoundRecord record) {
+		long value = 0;
+		int shift = 0;
+		int b;
+		do {
+			b = in[pos++];
+			value |= (long) (b & 0x7F) << shift;
+			shift += 7;
+		} while (b < 0);
+		long round = prevRound + unzigzag(value);
+		value = 0;
+		shift = 0;
+		do {
+			b = in[pos++];
+			value |= (long) (b & 0x7F) << shift;
+			shift += 7;
+		} while (b < 0);
+		long time = prevTime + unzigzag(value);
+
+		BitReader bits = new BitReader(in, pos);
+		int seats = bits.read(3) + 1;
+		record.reset(round, time, seats);
+		for (int hand = 0; hand <= seats; hand++) {
+			int index = hand == seats ? RoundRecord.DEALER : hand;
+			int cards = bits.read(5);
+			for (int i = 0; i < cards; i++) {
+				record.setCard(index, i, Card.of(bits.read(6)));
+			}
+		}
+		for (int seat = 0; seat < seats; seat++) {
+			int result = bits.read(2);
+			record.setResult(seat, result == 0 ? null : RESULTS[result - 1]);
+		}
+		return bits.end();
+	}
+
+	/**
+	 * Reads little-endian bit fields from a byte array.
+	 */
+	private static final class BitReader {
+		private final byte[] in;
+		private int pos;
+		private long bits;
+		private int count;
+
+		BitReader(byte[] in, int pos) {
+			this.in = in;
+			this.pos = pos;
+		}
+
+		int read(int width) {
+			while (count < width) {
+				bits |= (long) (in[pos++] & 0xFF) << count;
+				count += 8;
+			}
+			int value = (int) (bits & ((1 << width) - 1));
+			bits >>>= width;
+			count -= width;
+			return value;
+		}
+
+		// Helper: position after the byte holding the last bit read
+		int end() {
+			return pos;
+		}
+	}
+
+	// Helper: write the low bits of an accumulator, a whole number of bytes
+	private static int flush(byte[] out, int pos, long bits, int bitCount) {
+		for (int i = 0; i < bitCount; i += 8) {
+			out[pos++] = (byte) (bits >>> i);
+		}
+		return pos;
+	}
+
+	// Helper: write an unsigned LEB128 varint
+	private static int writeVarLong(byte[] out, int pos, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out[pos++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out[pos++] = (byte) value;
+		return pos;
+	}
+
+	private static long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unzigzag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+}
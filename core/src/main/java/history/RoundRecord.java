@@ -0,0 +1,156 @@
+package history;
+
+import model.Card;
+import model.GameModel;
+import model.GameResult;
+import model.Player;
+
+/**
+ * One finished round of a hand-history archive: when it was played, every
+ * seat's hand and result, and the dealer's hand.
+ *
+ * A RoundRecord is mutable and meant to be reused: the reader decodes each
+ * round into the same instance and the recorder fills one instance per
+ * round, so streaming through an archive allocates nothing per round.
+ */
+public final class RoundRecord {
+
+	/**
+	 * Hand index of the dealer, after every seat.
+	 */
+	public static final int DEALER = GameModel.MAX_SEATS;
+
+	// The table's round number
+	private long round;
+	// When the round ended, in epoch milliseconds
+	private long timestamp;
+	// Number of seats at the table
+	private int seatCount;
+	// A RoundRecord has-many hands: the seats, then the dealer at DEALER
+	private final Card[][] cards = new Card[GameModel.MAX_SEATS + 1][Player.MAX_CARDS];
+	private final int[] sizes = new int[GameModel.MAX_SEATS + 1];
+	// Result of each seat, or null if it was never settled
+	private final GameResult[] results = new GameResult[GameModel.MAX_SEATS];
+
+	/**
+	 * Empties every hand and result for a new round.
+	 *
+	 * @param round     the table's round number
+	 * @param timestamp when the round ended, in epoch milliseconds
+	 * @param seatCount number of seats at the table
+	 */
+	public void reset(long round, long timestamp, int seatCount) {
+		if (seatCount < 1 || seatCount > GameModel.MAX_SEATS) {
+			throw new IllegalArgumentException("Seat count must be 1 to " + GameModel.MAX_SEATS + ": " + seatCount);
+		}
+		this.round = round;
+		this.timestamp = timestamp;
+		this.seatCount = seatCount;
+		for (int i = 0; i < sizes.length; i++) {
+			sizes[i] = 0;
+		}
+		for (int i = 0; i < results.length; i++) {
+			results[i] = null;
+		}
+	}
+
+	/**
+	 * Puts a card at a position in a hand, growing the hand to reach it.
+	 *
+	 * @param hand     a seat index, or DEALER
+	 * @param position the card's position in the hand
+	 * @param card     the card
+	 */
+	public void setCard(int hand, int position, Card card) {
+		if (position >= Player.MAX_CARDS) {
+			throw new IllegalArgumentException("Hand too long: " + (position + 1) + " cards");
+		}
+		cards[hand][position] = card;
+		sizes[hand] = Math.max(sizes[hand], position + 1);
+	}
+
+	/**
+	 * @param seat   the seat index
+	 * @param result the seat's result, or null
+	 */
+	public void setResult(int seat, GameResult result) {
+		results[seat] = result;
+	}
+
+	/**
+	 * @param timestamp when the round ended, in epoch milliseconds
+	 */
+	public void setTimestamp(long timestamp) {
+		this.timestamp = timestamp;
+	}
+
+	/**
+	 * @param seatCount number of seats at the table
+	 */
+	void setSeatCount(int seatCount) {
+		this.seatCount = seatCount;
+	}
+
+	/**
+	 * @return the table's round number
+	 */
+	public long getRound() {
+		return round;
+	}
+
+	/**
+	 * @return when the round ended, in epoch milliseconds
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * @return number of seats at the table
+	 */
+	public int getSeatCount() {
+		return seatCount;
+	}
+
+	/**
+	 * @param hand a seat index, or DEALER
+	 * @return number of cards in that hand
+	 */
+	public int getCardCount(int hand) {
+		return sizes[hand];
+	}
+
+	/**
+	 * @param hand     a seat index, or DEALER
+	 * @param position the card's position in the hand
+	 * @return the card
+	 */
+	public Card getCard(int hand, int position) {
+		return cards[hand][position];
+	}
+
+	/**
+	 * @param seat the seat index
+	 * @return the seat's result, or null if it was never settled
+	 */
+	public GameResult getResult(int seat) {
+		return results[seat];
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("round=").append(round).append(" time=").append(timestamp);
+		for (int hand = 0; hand <= seatCount; hand++) {
+			int index = hand == seatCount ? DEALER : hand;
+			sb.append(index == DEALER ? " dealer=[" : " seat" + hand + "=[");
+			for (int i = 0; i < sizes[index]; i++) {
+				sb.append(i == 0 ? "" : " ").append(cards[index][i]);
+			}
+			sb.append(']');
+			if (index != DEALER && results[index] != null) {
+				sb.append(' ').append(results[index]);
+			}
+		}
+		return sb.toString();
+	}
+}
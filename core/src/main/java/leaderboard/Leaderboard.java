@@ -0,0 +1,315 @@
+package leaderboard;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import model.GameResult;
+
+/**
+ * Per-player records for any number of concurrent tables, ranked by net wins.
+ *
+ * Records live in a ConcurrentHashMap keyed by player id and, in leaderboard
+ * order, in a ConcurrentSkipListSet. Recording a result replaces the player's
+ * immutable record in both under the map's per-key lock, so tables updating
+ * different players never wait on each other, and the skip list makes the
+ * update O(log n) and top-K a walk of its first K entries.
+ *
+ * Rank queries use a Fenwick tree of player counts per net score, updated
+ * with atomic adds: a player's rank is one more than the number of players
+ * with a strictly higher net (tied players share a rank), in O(log range).
+ * Nets beyond +/- maxScore share the end buckets.
+ *
+ * Snapshots hold every record in a compact binary file, written to a
+ * temporary file and renamed over the old one, and only when something has
+ * changed since the last snapshot.
+ */
+public class Leaderboard implements AutoCloseable {
+
+	/**
+	 * Default snapshot file.
+	 */
+	public static final String DEFAULT_PATH = "data/leaderboard.bin";
+
+	/**
+	 * Largest net score ranked exactly unless configured otherwise.
+	 */
+	public static final int DEFAULT_MAX_SCORE = 1 << 16;
+
+	private static final int MAGIC = 0x424A4C42; // "BJLB"
+	private static final int FORMAT_VERSION = 1;
+
+	// A Leaderboard has-many records by player id
+	private final ConcurrentHashMap<String, PlayerRecord> records = new ConcurrentHashMap<>();
+	// The same records in leaderboard order
+	private final ConcurrentSkipListSet<PlayerRecord> ranking = new ConcurrentSkipListSet<>(PlayerRecord.RANKING);
+	// Fenwick tree of player counts by score bucket, 1-based; bucket 1 is the highest net
+	private final AtomicIntegerArray tree;
+	// Nets are clamped to +/- maxScore
+	private final int maxScore;
+	// Number of results recorded; a snapshot is due when it moved
+	private final AtomicLong version = new AtomicLong();
+	// Version written by the last snapshot
+	private volatile long snapshotVersion = 0;
+	// Thread writing periodic snapshots, or null
+	private ScheduledExecutorService snapshotter;
+	// File periodic snapshots go to
+	private Path snapshotPath;
+
+	/**
+	 * Creates an empty leaderboard ranking nets up to +/- DEFAULT_MAX_SCORE
+	 * exactly.
+	 */
+	public Leaderboard() {
+		this(DEFAULT_MAX_SCORE);
+	}
+
+	/**
+	 * Creates an empty leaderboard.
+	 *
+	 * @param maxScore largest net, either way, ranked exactly
+	 */
+	public Leaderboard(int maxScore) {
+		if (maxScore < 1) {
+			throw new IllegalArgumentException("Max score must be positive: " + maxScore);
+		}
+		this.maxScore = maxScore;
+		tree = new AtomicIntegerArray(2 * maxScore + 2);
+	}
+
+	/**
+	 * Adds the result of one hand to a player's record, creating the record
+	 * on the player's first hand. Safe to call from any thread.
+	 *
+	 * @param playerId the player id
+	 * @param result   WIN, LOSS or PUSH
+	 */
+	public void record(String playerId, GameResult result) {
+		records.compute(playerId, (id, old) -> {
+			PlayerRecord updated = (old == null ? new PlayerRecord(id, 0, 0, 0) : old).with(result);
+			replace(old, updated);
+			return updated;
+		});
+		version.incrementAndGet();
+	}
+
+	// Helper: move a player from its old record to the new one in the ranking and the tree
+	private void replace(PlayerRecord old, PlayerRecord updated) {
+		if (old != null) {
+			ranking.remove(old);
+			add(bucket(old.getNet()), -1);
+		}
+		ranking.add(updated);
+		add(bucket(updated.getNet()), 1);
+	}
+
+	/**
+	 * @param playerId the player id
+	 * @return the player's record, or null if the player has no hands
+	 */
+	public PlayerRecord getRecord(String playerId) {
+		return records.get(playerId);
+	}
+
+	/**
+	 * @return the number of players with a record
+	 */
+	public int getPlayerCount() {
+		return records.size();
+	}
+
+	/**
+	 * @param k the number of records to return
+	 * @return up to k records in leaderboard order
+	 */
+	public List<PlayerRecord> getTop(int k) {
+		List<PlayerRecord> top = new ArrayList<>(Math.min(k, 1024));
+		for (PlayerRecord record : ranking) {
+			if (top.size() == k) {
+				break;
+			}
+			top.add(record);
+		}
+		return top;
+	}
+
+	/**
+	 * Returns a player's rank: one more than the number of players with a
+	 * higher net, so tied players share a rank.
+	 *
+	 * @param playerId the player id
+	 * @return the rank, starting at 1, or 0 if the player has no hands
+	 */
+	public int getRank(String playerId) {
+		PlayerRecord record = records.get(playerId);
+		return record == null ? 0 : 1 + countAbove(bucket(record.getNet()));
+	}
+
+	// Helper: bucket of a net; higher nets get lower buckets
+	private int bucket(long net) {
+		return (int) (maxScore - Math.max(-maxScore, Math.min(maxScore, net))) + 1;
+	}
+
+	// Helper: Fenwick point update
+	private void add(int bucket, int delta) {
+		for (int i = bucket; i < tree.length(); i += i & -i) {
+			tree.getAndAdd(i, delta);
+		}
+	}
+
+	// Helper: Fenwick prefix sum of the buckets before the given one
+	private int countAbove(int bucket) {
+		int count = 0;
+		for (int i = bucket - 1; i > 0; i -= i & -i) {
+			count += tree.get(i);
+		}
+		return count;
+	}
+
+	/**
+	 * Writes every record to a snapshot file if anything changed since the
+	 * last snapshot. Safe to call while results are being recorded; each
+	 * record in the file is one the player actually had.
+	 *
+	 * @param path the snapshot file
+	 * @throws IOException if the file cannot be written
+	 */
+	public synchronized void writeSnapshot(Path path) throws IOException {
+		long current = version.get();
+		if (current == snapshotVersion && Files.exists(path)) {
+			return;
+		}
+		List<PlayerRecord> all = new ArrayList<>(records.values());
+		Path parent = path.toAbsolutePath().getParent();
+		Files.createDirectories(parent);
+		Path temp = Files.createTempFile(parent, "leaderboard", ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			out.writeInt(all.size());
+			for (PlayerRecord record : all) {
+				out.writeUTF(record.getPlayerId());
+				writeVarLong(out, record.getWins());
+				writeVarLong(out, record.getLosses());
+				writeVarLong(out, record.getPushes());
+			}
+		}
+		Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		snapshotVersion = current;
+	}
+
+	/**
+	 * Loads the records of a snapshot file into this leaderboard, replacing
+	 * any record of the same player. A missing file loads nothing.
+	 *
+	 * @param path the snapshot file
+	 * @return the number of records loaded
+	 * @throws IOException if the file cannot be read or is not a snapshot
+	 */
+	public int readSnapshot(Path path) throws IOException {
+		if (!Files.exists(path)) {
+			return 0;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+				throw new IOException("Not a leaderboard snapshot: " + path);
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				PlayerRecord loaded = new PlayerRecord(in.readUTF(), readVarLong(in), readVarLong(in),
+						readVarLong(in));
+				records.compute(loaded.getPlayerId(), (id, old) -> {
+					replace(old, loaded);
+					return loaded;
+				});
+			}
+			snapshotVersion = version.get();
+			return count;
+		}
+	}
+
+	/**
+	 * Writes a snapshot to the given file every interval, on a background
+	 * thread, until close().
+	 *
+	 * @param path           the snapshot file
+	 * @param intervalMillis time between snapshots
+	 */
+	public synchronized void startSnapshots(Path path, long intervalMillis) {
+		if (snapshotter != null) {
+			throw new IllegalStateException("Snapshots already started");
+		}
+		snapshotPath = path;
+		snapshotter = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread t = new Thread(r, "leaderboard-snapshot");
+			t.setDaemon(true);
+			return t;
+		});
+		snapshotter.scheduleWithFixedDelay(() -> {
+			try {
+				writeSnapshot(path);
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+		}, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Stops periodic snapshots and writes a final one.
+	 *
+	 * @throws IOException if the final snapshot cannot be written
+	 */
+	@Override
+	public void close() throws IOException {
+		ScheduledExecutorService stopping;
+		synchronized (this) {
+			stopping = snapshotter;
+			snapshotter = null;
+		}
+		if (stopping != null) {
+			stopping.shutdown();
+			try {
+				stopping.awaitTermination(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			writeSnapshot(snapshotPath);
+		}
+	}
+
+	// Helper: write an unsigned LEB128 varint
+	private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) (value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+
+	// Helper: read an unsigned LEB128 varint
+	private static long readVarLong(DataInputStream in) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = in.readUnsignedByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Malformed varint");
+	}
+}
@@ -0,0 +1,93 @@
+package leaderboard;
+
+import java.util.Comparator;
+
+import model.GameResult;
+
+/**
+ * Immutable win/loss record of one player. A Leaderboard replaces a player's
+ * record with a new one on every result, so readers on any thread always see
+ * a consistent record.
+ */
+public final class PlayerRecord {
+
+	/**
+	 * Leaderboard order: highest net first, then most wins, then player id.
+	 */
+	public static final Comparator<PlayerRecord> RANKING = Comparator.comparingLong(PlayerRecord::getNet)
+			.reversed().thenComparing(Comparator.comparingLong(PlayerRecord::getWins).reversed())
+			.thenComparing(PlayerRecord::getPlayerId);
+
+	// A PlayerRecord has-a player id
+	private final String playerId;
+	// A PlayerRecord has-a count of wins, losses and pushes
+	private final long wins, losses, pushes;
+
+	/**
+	 * @param playerId the player id
+	 * @param wins     hands won
+	 * @param losses   hands lost
+	 * @param pushes   hands pushed
+	 */
+	public PlayerRecord(String playerId, long wins, long losses, long pushes) {
+		this.playerId = playerId;
+		this.wins = wins;
+		this.losses = losses;
+		this.pushes = pushes;
+	}
+
+	/**
+	 * @param result the result of one more hand
+	 * @return this record with the hand added
+	 */
+	PlayerRecord with(GameResult result) {
+		switch (result) {
+			case WIN:
+				return new PlayerRecord(playerId, wins + 1, losses, pushes);
+			case LOSS:
+				return new PlayerRecord(playerId, wins, losses + 1, pushes);
+			default:
+				return new PlayerRecord(playerId, wins, losses, pushes + 1);
+		}
+	}
+
+	/**
+	 * @return the player id
+	 */
+	public String getPlayerId() {
+		return playerId;
+	}
+
+	/**
+	 * @return hands won
+	 */
+	public long getWins() {
+		return wins;
+	}
+
+	/**
+	 * @return hands lost
+	 */
+	public long getLosses() {
+		return losses;
+	}
+
+	/**
+	 * @return hands pushed
+	 */
+	public long getPushes() {
+		return pushes;
+	}
+
+	/**
+	 * @return wins minus losses, the score players are ranked by
+	 */
+	public long getNet() {
+		return wins - losses;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s wins=%d losses=%d pushes=%d net=%+d", playerId, wins, losses, pushes, getNet());
+	}
+}
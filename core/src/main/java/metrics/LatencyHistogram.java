@@ -0,0 +1,160 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size latency histogram with log-linear buckets.
+ * Each power of two is split into 32 linear sub-buckets, so any recorded
+ * value is reported within about 3% of its true size, from 1 ns up to about
+ * 73 minutes. Memory never grows and recording is a single atomic increment,
+ * so any number of threads can record without locking.
+ */
+public class LatencyHistogram {
+
+	// Sub-buckets per power of two, as a bit count
+	private static final int SUB_BUCKET_BITS = 5;
+	// Sub-buckets per power of two
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	// Largest exponent tracked; larger values are clamped into the top bucket
+	private static final int MAX_EXPONENT = 41;
+	// Largest value tracked, in nanoseconds
+	private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+	// Total number of buckets
+	private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+	// A LatencyHistogram has-a name used when exporting
+	private final String name;
+	// A LatencyHistogram has-a description used when exporting
+	private final String help;
+	// A LatencyHistogram has-many bucket counters
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+	// Sum of all recorded values, in nanoseconds
+	private final LongAdder sum = new LongAdder();
+	// Largest recorded value, in nanoseconds
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Creates an empty histogram.
+	 *
+	 * @param name metric name, e.g. "deal"
+	 * @param help one-line description of what is measured
+	 */
+	public LatencyHistogram(String name, String help) {
+		this.name = name;
+		this.help = help;
+	}
+
+	/**
+	 * Records one latency value.
+	 *
+	 * @param nanos elapsed time in nanoseconds; negative values count as 0
+	 */
+	public void record(long nanos) {
+		long value = Math.max(0, Math.min(nanos, MAX_VALUE));
+		buckets.incrementAndGet(bucketIndex(value));
+		sum.add(value);
+		long currentMax = max.get();
+		while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+			currentMax = max.get();
+		}
+	}
+
+	/**
+	 * Records the time elapsed since the given {@link System#nanoTime()} reading.
+	 *
+	 * @param startNanos the System.nanoTime() value taken when the operation began
+	 */
+	public void recordSince(long startNanos) {
+		record(System.nanoTime() - startNanos);
+	}
+
+	/**
+	 * Returns the value at the given percentile of everything recorded so far.
+	 *
+	 * @param percentile a value from 0 to 100, e.g. 99.9
+	 * @return the latency in nanoseconds, or 0 if nothing was recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long[] counts = new long[BUCKET_COUNT];
+		long total = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			counts[i] = buckets.get(i);
+			total += counts[i];
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+		long seen = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			seen += counts[i];
+			if (seen >= rank) {
+				return Math.min(bucketMidpoint(i), max.get());
+			}
+		}
+		return max.get();
+	}
+
+	/**
+	 * @return the number of recorded values
+	 */
+	public long getCount() {
+		long total = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			total += buckets.get(i);
+		}
+		return total;
+	}
+
+	/**
+	 * @return the sum of recorded values, in nanoseconds
+	 */
+	public long getSum() {
+		return sum.sum();
+	}
+
+	/**
+	 * @return the largest recorded value, in nanoseconds
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * @return the metric name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the metric description
+	 */
+	public String getHelp() {
+		return help;
+	}
+
+	// Helper: bucket holding the given non-negative value
+	private static int bucketIndex(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+	}
+
+	// Helper: representative value of a bucket (middle of its range)
+	private static long bucketMidpoint(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		int sub = index % SUB_BUCKETS;
+		int shift = exponent - SUB_BUCKET_BITS;
+		long lower = (1L << exponent) + ((long) sub << shift);
+		return lower + ((1L << shift) >> 1);
+	}
+}
@@ -0,0 +1,70 @@
+package metrics;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide registry of game metrics.
+ * Timers are recorded by the model and view at the point where each
+ * operation completes; counters are bumped where the event happens.
+ * Everything here is safe to update from any thread without locking.
+ */
+public final class Metrics {
+
+	/**
+	 * Time to deal a new round (GameModel.startNewRound).
+	 */
+	public static final LatencyHistogram DEAL = new LatencyHistogram("deal", "Time to deal a new round");
+	/**
+	 * Time for a seat to hit (GameModel.playerHits).
+	 */
+	public static final LatencyHistogram HIT = new LatencyHistogram("hit", "Time for a seat to hit");
+	/**
+	 * Time for a seat to stand, including the dealer turn when it ends the round.
+	 */
+	public static final LatencyHistogram STAND = new LatencyHistogram("stand",
+			"Time for a seat to stand, including settlement when it ends the round");
+	/**
+	 * Time for the dealer to play out its hand.
+	 */
+	public static final LatencyHistogram DEALER_TURN = new LatencyHistogram("dealer_turn",
+			"Time for the dealer to play out its hand");
+	/**
+	 * Time to decode one card image resource.
+	 */
+	public static final LatencyHistogram IMAGE_LOAD = new LatencyHistogram("image_load",
+			"Time to decode one card image resource");
+	/**
+	 * Time to persist the win/loss record.
+	 */
+	public static final LatencyHistogram RECORD_SAVE = new LatencyHistogram("record_save",
+			"Time to persist the win/loss record");
+	/**
+	 * Time to write the in-progress round snapshot.
+	 */
+	public static final LatencyHistogram ROUND_SAVE = new LatencyHistogram("round_save",
+			"Time to write the in-progress round snapshot");
+
+	/**
+	 * Number of rounds settled.
+	 */
+	public static final LongAdder ROUNDS = new LongAdder();
+	/**
+	 * Number of times a deck or shoe was rebuilt and reshuffled.
+	 */
+	public static final LongAdder RESHUFFLES = new LongAdder();
+
+	// Every timer, in export order
+	private static final List<LatencyHistogram> TIMERS = List.of(DEAL, HIT, STAND, DEALER_TURN, IMAGE_LOAD,
+			RECORD_SAVE, ROUND_SAVE);
+
+	private Metrics() {
+	}
+
+	/**
+	 * @return every registered timer, in export order
+	 */
+	public static List<LatencyHistogram> timers() {
+		return TIMERS;
+	}
+}
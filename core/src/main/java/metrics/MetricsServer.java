@@ -0,0 +1,119 @@
+package metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Serves the contents of {@link Metrics} at /metrics on the loopback interface
+ * in the Prometheus text exposition format. Latencies are exported as
+ * summaries in seconds with the 0.5, 0.99 and 0.999 quantiles.
+ */
+public class MetricsServer {
+
+	// Prefix shared by every exported metric name
+	private static final String PREFIX = "blackjack_";
+	// Quantiles exported for every timer
+	private static final double[] QUANTILES = { 0.5, 0.99, 0.999 };
+
+	// A MetricsServer has-a JDK HTTP server
+	private final HttpServer server;
+	// Rounds counter and clock reading at the previous scrape, for rounds/sec
+	private long lastRounds;
+	private long lastScrapeNanos;
+
+	/**
+	 * Creates a server bound to the loopback interface. Call {@link #start()}
+	 * to begin serving.
+	 *
+	 * @param port TCP port to listen on, or 0 for any free port
+	 * @throws IOException if the port cannot be bound
+	 */
+	public MetricsServer(int port) throws IOException {
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+		server.createContext("/metrics", this::handle);
+		lastRounds = Metrics.ROUNDS.sum();
+		lastScrapeNanos = System.nanoTime();
+	}
+
+	/**
+	 * Starts serving on a background thread.
+	 */
+	public void start() {
+		server.start();
+	}
+
+	/**
+	 * Stops serving immediately.
+	 */
+	public void stop() {
+		server.stop(0);
+	}
+
+	/**
+	 * @return the port the server is bound to
+	 */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	// Helper: answer one scrape
+	private void handle(HttpExchange exchange) throws IOException {
+		byte[] body = render().getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+		exchange.sendResponseHeaders(200, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+
+	/**
+	 * Renders every metric in the Prometheus text format.
+	 *
+	 * @return the exposition text
+	 */
+	public synchronized String render() {
+		StringBuilder sb = new StringBuilder();
+		for (LatencyHistogram timer : Metrics.timers()) {
+			String name = PREFIX + timer.getName() + "_latency_seconds";
+			sb.append("# HELP ").append(name).append(' ').append(timer.getHelp()).append('\n');
+			sb.append("# TYPE ").append(name).append(" summary\n");
+			for (double quantile : QUANTILES) {
+				sb.append(name).append("{quantile=\"").append(quantile).append("\"} ")
+						.append(seconds(timer.getValueAtPercentile(quantile * 100))).append('\n');
+			}
+			sb.append(name).append("_sum ").append(seconds(timer.getSum())).append('\n');
+			sb.append(name).append("_count ").append(timer.getCount()).append('\n');
+		}
+
+		long rounds = Metrics.ROUNDS.sum();
+		long now = System.nanoTime();
+		double roundsPerSecond = (rounds - lastRounds) / ((now - lastScrapeNanos) / 1e9);
+		lastRounds = rounds;
+		lastScrapeNanos = now;
+
+		appendMetric(sb, "rounds_total", "counter", "Number of rounds settled", rounds);
+		appendMetric(sb, "rounds_per_second", "gauge", "Rounds settled per second since the previous scrape",
+				roundsPerSecond);
+		appendMetric(sb, "reshuffles_total", "counter", "Number of deck or shoe reshuffles",
+				Metrics.RESHUFFLES.sum());
+		return sb.toString();
+	}
+
+	// Helper: append a single-value metric with its HELP and TYPE lines
+	private static void appendMetric(StringBuilder sb, String name, String type, String help, Number value) {
+		sb.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+		sb.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+		sb.append(PREFIX).append(name).append(' ').append(value).append('\n');
+	}
+
+	// Helper: nanoseconds to seconds
+	private static double seconds(long nanos) {
+		return nanos / 1e9;
+	}
+}
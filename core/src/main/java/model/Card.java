@@ -0,0 +1,172 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents a single playing card with a rank and suit.
+ * There are exactly 52 Card instances, created once and shared by every deck,
+ * hand, and table; obtain them with {@link #of(Rank, Suit)}. A Card never
+ * changes, so whether it is shown face-down is tracked by the hand holding it.
+ * Images are not part of the model; the UI looks them up by image key.
+ */
+public final class Card {
+
+    /**
+     * Number of distinct cards in a standard deck.
+     */
+    public static final int DECK_SIZE = 52;
+
+    // The canonical cards, indexed by suit ordinal * 13 + rank ordinal
+    private static final Card[] UNIVERSE = new Card[DECK_SIZE];
+
+    static {
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                Card card = new Card(rank, suit);
+                UNIVERSE[card.index] = card;
+            }
+        }
+    }
+
+	// A Card has-a rank
+    private final Rank rank;
+	// A Card has-a suit
+    private final Suit suit;
+	// A Card has-a point value
+    private final int value;
+	// A Card has-a position in the canonical universe
+    private final int index;
+	// A Card has-a image key naming its resource, e.g. "king_of_hearts"
+    private final String imageKey;
+
+    /**
+     * Constructs the canonical Card with specified rank and suit.
+     *
+     * @param rank the rank of the card
+     * @param suit the suit of the card
+     */
+    private Card(Rank rank, Suit suit) {
+        this.rank = rank;
+        this.suit = suit;
+        this.value = valueOf(rank);
+        this.index = suit.ordinal() * Rank.values().length + rank.ordinal();
+        this.imageKey = rank.name().toLowerCase() + "_of_" + suit.name().toLowerCase();
+    }
+
+    /**
+     * Returns the shared Card for the given rank and suit.
+     *
+     * @param rank the rank of the card
+     * @param suit the suit of the card
+     * @return the canonical Card
+     */
+    public static Card of(Rank rank, Suit suit) {
+        return UNIVERSE[suit.ordinal() * Rank.values().length + rank.ordinal()];
+    }
+
+    /**
+     * Returns the shared Card at the given universe index.
+     *
+     * @param index a value from 0 to 51, as returned by {@link #getIndex()}
+     * @return the canonical Card
+     */
+    public static Card of(int index) {
+        return UNIVERSE[index];
+    }
+
+    /**
+     * Returns all 52 canonical cards in universe order (suit by suit).
+     *
+     * @return an unmodifiable list of every card
+     */
+    public static List<Card> universe() {
+        return Collections.unmodifiableList(Arrays.asList(UNIVERSE));
+    }
+
+    /**
+     * Returns the point value of this card.
+     * For numbered cards, returns the number.
+     * For face cards, returns 10.
+     * For Ace, returns 11 (will later be adjusted to 1 if total is greater than 21).
+     *
+     * @return the card value
+     */
+    public int getValue() {
+        return value;
+    }
+
+    // Helper: point value of a rank, computed once per canonical card
+    private static int valueOf(Rank rank) {
+        switch (rank) {
+            case TWO:
+                return 2;
+            case THREE:
+                return 3;
+            case FOUR:
+                return 4;
+            case FIVE:
+                return 5;
+            case SIX:
+                return 6;
+            case SEVEN:
+                return 7;
+            case EIGHT:
+                return 8;
+            case NINE:
+                return 9;
+            case TEN:
+            case JACK:
+            case QUEEN:
+            case KING:
+                return 10;
+            case ACE:
+                return 11; // Will later make equal to 1 if total is greater than 21;
+            default:
+                throw new IllegalStateException("Unknown rank: " + rank);
+        }
+    }
+
+    /**
+     * Returns the rank of this card.
+     *
+     * @return the card's rank
+     */
+    public Rank getRank() {
+        return rank;
+    }
+
+    /**
+     * Returns the suit of this card.
+     *
+     * @return the card's suit
+     */
+    public Suit getSuit() {
+        return suit;
+    }
+
+    /**
+     * Returns this card's position among the 52 canonical cards
+     * (suit ordinal * 13 + rank ordinal).
+     *
+     * @return the universe index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the resource name of this card's face image, e.g. "king_of_hearts".
+     *
+     * @return the image key
+     */
+    public String getImageKey() {
+        return imageKey;
+    }
+
+    @Override
+    public String toString() {
+        return imageKey;
+    }
+}
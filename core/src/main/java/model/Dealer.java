@@ -11,6 +11,9 @@ public class Dealer extends Player {
 	 */
 	public static final int STAND_THRESHOLD = 17;
 
+	// A Dealer has-a hole card (second card) that stays face-down until revealed
+	private boolean holeCardHidden = false;
+
 	/**
 	 * Creates a new Dealer with an empty hand.
 	 */
@@ -18,6 +21,31 @@ public class Dealer extends Player {
 
 	}
 
+	/**
+	 * Clears the hand; the next hole card starts face-up until hidden again.
+	 */
+	@Override
+	public void clearHand() {
+		super.clearHand();
+		holeCardHidden = false;
+	}
+
+	/**
+	 * Sets whether the hole card (second card in hand) is shown face-down.
+	 *
+	 * @param holeCardHidden true to show back, false to show face
+	 */
+	public void setHoleCardHidden(boolean holeCardHidden) {
+		this.holeCardHidden = holeCardHidden;
+	}
+
+	/**
+	 * @return true while the hole card is face-down
+	 */
+	public boolean isHoleCardHidden() {
+		return holeCardHidden;
+	}
+
 	/**
 	 * Decides the dealer's action based on blackjack rules.
 	 * Hits on totals below threshold or on soft 17; stands otherwise.
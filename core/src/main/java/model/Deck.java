@@ -0,0 +1,288 @@
+package model;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import metrics.Metrics;
+
+/**
+ * Represents a shoe of one or more standard 52-card decks used in the game.
+ * The shoe holds references to the shared canonical cards in a fixed array and
+ * deals by advancing a position, so resetting and dealing never allocate.
+ *
+ * A shoe can be double-buffered: the next shoe is then filled and shuffled on
+ * a background thread while this one is dealt, and resetDeck only swaps the
+ * two arrays, so the reshuffle never costs the dealing thread more than a
+ * reference swap.
+ *
+ * The deck keeps a ShoeComposition in step with every deal and reset, so the
+ * remaining counts per rank are always known without scanning the shoe.
+ */
+public class Deck {
+
+    // Shared daemon thread that prepares the next shoe of double-buffered decks
+    private static ExecutorService preparer;
+
+	// A Deck has-many cards; cards[next..] are still to be dealt
+    private Card[] cards;
+	// Position of the next card to deal
+    private int next;
+	// Number of 52-card decks shuffled together
+    private final int deckCount;
+	// A Deck has-a random source for shuffling
+    private final Random random;
+	// The next shoe, being filled and shuffled in the background; null when the
+	// deck reshuffles inline
+    private CompletableFuture<Card[]> nextShoe;
+	// A Deck has-a count of the cards not yet dealt, by rank
+    private final ShoeComposition composition;
+
+    /**
+     * Builds an ordered deck of 52 cards.
+     */
+    public Deck() {
+        this(1);
+    }
+
+    /**
+     * Builds an ordered shoe holding the given number of 52-card decks.
+     *
+     * @param deckCount the number of decks in the shoe (at least 1)
+     */
+    public Deck(int deckCount) {
+        this(deckCount, new Random());
+    }
+
+    /**
+     * Builds an ordered shoe holding the given number of 52-card decks,
+     * shuffled with the given random source.
+     *
+     * @param deckCount the number of decks in the shoe (at least 1)
+     * @param random    the random source used by every shuffle
+     */
+    public Deck(int deckCount, Random random) {
+        this(deckCount, random, false);
+    }
+
+    /**
+     * Builds an ordered shoe holding the given number of 52-card decks,
+     * shuffled with the given random source, optionally preparing each next
+     * shoe in the background. A double-buffered deck shuffles from another
+     * thread, so its sequence of shuffles is not reproducible from the random
+     * source alone, and the random source must be thread-safe; simulations
+     * use inline reshuffles.
+     *
+     * @param deckCount           the number of decks in the shoe (at least 1)
+     * @param random              the random source used by every shuffle
+     * @param prepareInBackground true to build each next shoe in the background
+     */
+    public Deck(int deckCount, Random random, boolean prepareInBackground) {
+        if (deckCount < 1) {
+            throw new IllegalArgumentException("Deck count must be at least 1: " + deckCount);
+        }
+        this.deckCount = deckCount;
+        this.random = random;
+        cards = new Card[deckCount * Card.DECK_SIZE];
+        composition = new ShoeComposition(deckCount);
+        fill();
+        if (prepareInBackground) {
+            nextShoe = prepare(new Card[cards.length]);
+        }
+    }
+
+    /**
+     * Resets the deck to a full, shuffled set of cards. A double-buffered deck
+     * swaps in the shoe prepared in the background and starts preparing the
+     * one after it.
+     */
+    public void resetDeck() {
+        if (nextShoe == null) {
+            fill();
+            shuffle();
+        } else {
+            Card[] used = cards;
+            cards = nextShoe.join(); // normally finished long ago
+            next = 0;
+            composition.reset();
+            nextShoe = prepare(used);
+        }
+        Metrics.RESHUFFLES.increment();
+    }
+
+    /**
+     * Shuffles the dealt cards back into the shoe mid-round, except those
+     * still on the table, so no card can be dealt twice in one round. The
+     * composition then counts every card not on the table as unseen.
+     *
+     * @param inPlay the hands on the table
+     */
+    public void reshuffleDiscards(List<List<Card>> inPlay) {
+        int[] held = new int[Card.DECK_SIZE];
+        for (List<Card> hand : inPlay) {
+            for (Card card : hand) {
+                held[card.getIndex()]++;
+            }
+        }
+        // the cards on the table go before next, every other card after it
+        fill();
+        int front = 0;
+        for (int i = 0; i < cards.length; i++) {
+            Card card = cards[i];
+            if (held[card.getIndex()] > 0) {
+                held[card.getIndex()]--;
+                cards[i] = cards[front];
+                cards[front++] = card;
+            }
+        }
+        next = front;
+        composition.clear();
+        for (int i = next; i < cards.length; i++) {
+            composition.add(cards[i]);
+        }
+        shuffle();
+        Metrics.RESHUFFLES.increment();
+    }
+
+    // Helper: fill and shuffle a spare shoe on the background thread
+    private CompletableFuture<Card[]> prepare(Card[] shoe) {
+        return CompletableFuture.supplyAsync(() -> {
+            fill(shoe);
+            shuffle(shoe, 0, random);
+            return shoe;
+        }, preparer());
+    }
+
+    // Helper: the shared background thread, started on first use
+    private static synchronized ExecutorService preparer() {
+        if (preparer == null) {
+            preparer = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "shoe-preparer");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return preparer;
+    }
+
+    // Helper: put every card of every deck back in order
+    private void fill() {
+        fill(cards);
+        next = 0;
+        composition.reset();
+    }
+
+    // Helper: put every card of every deck of a shoe in order
+    private static void fill(Card[] shoe) {
+        for (int i = 0; i < shoe.length; i++) {
+            shoe[i] = Card.of(i % Card.DECK_SIZE);
+        }
+    }
+
+    /**
+     * Shuffles the cards remaining in the deck.
+     */
+    public void shuffle() {
+        shuffle(cards, next, random);
+    }
+
+    // Helper: Fisher-Yates shuffle of shoe[from..]
+    private static void shuffle(Card[] shoe, int from, Random random) {
+        for (int i = shoe.length - 1; i > from; i--) {
+            int j = from + random.nextInt(i - from + 1);
+            Card swap = shoe[i];
+            shoe[i] = shoe[j];
+            shoe[j] = swap;
+        }
+    }
+
+    /**
+     * Deals the top card from the deck and removes it.
+     *
+     * @return the dealt Card.
+     */
+    public Card dealCard() {
+        if (next >= cards.length) {
+            throw new IllegalStateException("Deck is empty");
+        }
+        Card card = cards[next++];
+        composition.remove(card);
+        return card;
+    }
+
+    /**
+     * Returns the number of cards currently in the deck.
+     *
+     * @return the count of cards.
+     */
+    public int getSize() {
+        return cards.length - next;
+    }
+
+    /**
+     * Returns the live counts of the cards not yet dealt. GameModel also
+     * counts the dealer's face-down card there while it is hidden.
+     *
+     * @return the composition of the undealt cards
+     */
+    public ShoeComposition getComposition() {
+        return composition;
+    }
+
+    /**
+     * Returns the number of bytes writeState needs for this shoe.
+     *
+     * @return the encoded state size.
+     */
+    public int getStateSize() {
+        return 1 + 2 + cards.length;
+    }
+
+    /**
+     * Writes the deck count and the order of the cards still to be dealt, one
+     * byte per card index.
+     *
+     * @param buffer the buffer to write to
+     */
+    public void writeState(ByteBuffer buffer) {
+        buffer.put((byte) deckCount);
+        buffer.putShort((short) (cards.length - next));
+        for (int i = next; i < cards.length; i++) {
+            buffer.put((byte) cards[i].getIndex());
+        }
+    }
+
+    /**
+     * Restores the cards still to be dealt from state written by writeState.
+     * The random source is not part of the deck state.
+     *
+     * @param buffer the buffer to read from
+     * @throws IllegalArgumentException if the state is for a different shoe
+     */
+    public void readState(ByteBuffer buffer) {
+        int count = buffer.get();
+        int remaining = buffer.getShort();
+        if (count != deckCount || remaining < 0 || remaining > cards.length) {
+            throw new IllegalArgumentException("Deck state does not match a " + deckCount + "-deck shoe");
+        }
+        fill();
+        next = cards.length - remaining;
+        composition.clear();
+        for (int i = next; i < cards.length; i++) {
+            cards[i] = Card.of(buffer.get());
+            composition.add(cards[i]);
+        }
+    }
+
+    /**
+     * Returns the number of 52-card decks in this shoe.
+     *
+     * @return the deck count.
+     */
+    public int getDeckCount() {
+        return deckCount;
+    }
+}
@@ -7,6 +7,8 @@ import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 
+import metrics.Metrics;
+
 /**
  * Handles loading and saving the wins/losses record to a file.
  */
@@ -57,6 +59,7 @@ public class FileManager {
      * @param losses the number of losses to save.
      */
     public void saveRecord(int wins, int losses) {
+        long start = System.nanoTime();
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(recordFilePath))) {
             writer.write("wins=" + wins);
             writer.newLine();
@@ -65,5 +68,6 @@ public class FileManager {
         } catch (IOException e) {
             e.printStackTrace();
         }
+        Metrics.RECORD_SAVE.recordSince(start);
     }
 }
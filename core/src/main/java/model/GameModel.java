@@ -0,0 +1,904 @@
+package model;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import events.EventBus;
+import events.RecordWriter;
+import leaderboard.Leaderboard;
+import metrics.Metrics;
+import spectator.DeltaType;
+import spectator.SpectatorChannel;
+import spectator.TableDelta;
+
+/**
+ * GameModel orchestrates core game logic:
+ * - manages one shared deck, up to MAX_SEATS human seats, and the dealer
+ * - tracks wins and losses
+ * - handles round lifecycle and outcome determination
+ *
+ * Seats act in order (seat 0 first). The dealer plays once, after every seat
+ * has stood, busted, or been settled by a blackjack, and that single dealer
+ * hand settles all remaining seats.
+ */
+public class GameModel {
+
+	/**
+	 * Maximum number of seats at one table.
+	 */
+	public static final int MAX_SEATS = 7;
+
+	/**
+	 * Number of decks shuffled into the shoe of a multi-seat table.
+	 */
+	public static final int MULTI_SEAT_DECKS = 6;
+
+	// A GameEngine has-a deck
+	private Deck deck;
+	// A GameEngine has-many seats; seat 0 is the humanPlayer
+	private final List<HumanPlayer> seats = new ArrayList<>();
+	// A GameEngine has-a humanPlayer
+	private HumanPlayer human;
+	// A GameEngine has-a dealer
+	private Dealer dealer;
+	// Per-seat outcome of the current round, null until that seat is settled
+	private final GameResult[] seatResults;
+	// Per-seat flag: true once the seat has finished acting this round
+	private final boolean[] seatDone;
+	// Index of the seat whose turn it is, or -1 when no seat may act
+	private int activeSeat = -1;
+	// A GameModel has-a count of wins
+	private int wins = 0;
+	// A GameModel has-a count of losses
+	private int losses = 0;
+	// A GameModel has-a fileManager, or null when the record is not persisted
+	private final FileManager fileManager;
+	// Round active flag: true while a round is in progress
+	private boolean roundActive = false;
+	// Sequence number of the last published snapshot
+	private long snapshotVersion = 0;
+	// Latest immutable table state; replaced wholesale after every transition
+	private volatile TableSnapshot snapshot;
+	// Frozen seats and dealer hand of the last snapshot, shared by the next
+	// one wherever nothing changed
+	private TableSnapshot.Seat[] seatViews;
+	private List<TableSnapshot.Seat> seatViewList;
+	private List<Card> dealerHandView = List.of();
+	// Number of rounds started on this table
+	private long roundNumber = 0;
+	// A GameModel has-a spectator channel, or null when nobody is watching
+	private SpectatorChannel spectators;
+	// A GameModel has-a round store, or null when rounds are not persisted
+	private final RoundStore roundStore;
+	// A GameModel has-a event bus, or null when no consumer is attached
+	private EventBus events;
+	// True once the record is saved by an event consumer instead of inline
+	private boolean recordSavedByEvents = false;
+	// A GameModel has-a leaderboard, or null when results are not ranked
+	private Leaderboard leaderboard;
+	// Player id of each seat on the leaderboard
+	private String[] seatPlayerIds;
+	// True to record action latencies in Metrics
+	private boolean timed = true;
+
+	/**
+	 * Constructs a new single-seat GameModel with one deck.
+	 *
+	 * Initializes and shuffles the deck, sets up the human player and dealer,
+	 * and loads win/loss record from persistent storage.
+	 */
+	public GameModel() {
+		this(1);
+	}
+
+	/**
+	 * Constructs a GameModel with the given number of seats. A single seat plays
+	 * from one deck; more seats share a MULTI_SEAT_DECKS shoe.
+	 *
+	 * @param seatCount number of seats, from 1 to MAX_SEATS
+	 */
+	public GameModel(int seatCount) {
+		this(seatCount, seatCount > 1 ? MULTI_SEAT_DECKS : 1);
+	}
+
+	/**
+	 * Constructs a GameModel with the given number of seats sharing a shoe of
+	 * the given number of decks.
+	 *
+	 * @param seatCount number of seats, from 1 to MAX_SEATS
+	 * @param deckCount number of decks in the shared shoe
+	 */
+	public GameModel(int seatCount, int deckCount) {
+		this(seatCount, shuffledDeck(deckCount), new FileManager(), Paths.get(RoundStore.DEFAULT_PATH));
+	}
+
+	/**
+	 * Constructs a GameModel around an existing shoe, used as-is. Without a
+	 * fileManager the record starts at zero and is never saved, as a simulated
+	 * table needs.
+	 *
+	 * @param seatCount   number of seats, from 1 to MAX_SEATS
+	 * @param deck        the shoe to deal from
+	 * @param fileManager the record store, or null for no persistence
+	 */
+	public GameModel(int seatCount, Deck deck, FileManager fileManager) {
+		this(seatCount, deck, fileManager, null);
+	}
+
+	/**
+	 * Constructs a GameModel around an existing shoe that also snapshots the
+	 * table after every action to roundFile. If roundFile holds a valid
+	 * snapshot of a table with the same seats and shoe size, that table,
+	 * including a round in progress, is restored.
+	 *
+	 * @param seatCount   number of seats, from 1 to MAX_SEATS
+	 * @param deck        the shoe to deal from
+	 * @param fileManager the record store, or null for no persistence
+	 * @param roundFile   the round snapshot file, or null for none
+	 */
+	public GameModel(int seatCount, Deck deck, FileManager fileManager, Path roundFile) {
+		if (seatCount < 1 || seatCount > MAX_SEATS) {
+			throw new IllegalArgumentException("Seat count must be between 1 and " + MAX_SEATS + ": " + seatCount);
+		}
+		this.deck = deck;
+
+		// Initialize players
+		for (int i = 0; i < seatCount; i++) {
+			seats.add(new HumanPlayer());
+		}
+		this.human = seats.get(0);
+		this.dealer = new Dealer();
+		this.seatResults = new GameResult[seatCount];
+		this.seatDone = new boolean[seatCount];
+
+		// Initialize fileManager
+		this.fileManager = fileManager;
+		if (fileManager != null) {
+			int[] record = fileManager.loadRecord();
+			this.wins = record[0];
+			this.losses = record[1];
+		}
+
+		this.roundStore = roundFile == null ? null : new RoundStore(roundFile, stateSize());
+		if (roundStore != null) {
+			ByteBuffer saved = roundStore.load();
+			if (saved != null) {
+				restoreState(saved);
+			}
+		}
+		publishSnapshot();
+	}
+
+	// Helper: a new shoe in random order that prepares its reshuffles off the
+	// calling thread (the EDT at the table)
+	private static Deck shuffledDeck(int deckCount) {
+		Deck deck = new Deck(deckCount, new Random(), true);
+		deck.shuffle();
+		return deck;
+	}
+
+	/**
+	 * Starts a new round. Reshuffles deck if low, clears hands, and deals two
+	 * cards to every seat and to the dealer (one hidden) in table order: one
+	 * card to each seat, the dealer's up card, a second card to each seat,
+	 * then the dealer's down card.
+	 *
+	 * @return WIN, LOSS, or PUSH if seat 0 is settled by a natural blackjack
+	 *         immediately; null to continue normal play.
+	 */
+	public GameResult startNewRound() {
+		long start = timed ? System.nanoTime() : 0;
+		if (dealer.isHoleCardHidden()) {
+			// an unfinished round's hole card is discarded unseen
+			deck.getComposition().remove(dealer.getHand().get(1));
+		}
+		roundActive = true;
+		roundNumber++;
+		// reshuffle when deck cannot cover the initial deal
+		if (deck.getSize() < (seats.size() + 1) * 2) {
+			deck.resetDeck();
+		}
+
+		dealer.clearHand();
+		for (int i = 0; i < seats.size(); i++) {
+			seats.get(i).clearHand();
+			seatResults[i] = null;
+			seatDone[i] = false;
+		}
+		broadcast(DeltaType.ROUND_STARTED, TableDelta.DEALER, 0, null, null);
+
+		for (int i = 0; i < seats.size(); i++) {
+			dealToSeat(i);
+		}
+		dealToDealer(); // up card
+		for (int i = 0; i < seats.size(); i++) {
+			dealToSeat(i);
+		}
+		dealer.setHoleCardHidden(true); // sets down card to faceDown for UI
+		dealToDealer(); // down card
+
+		// Check for blackjack immediately after deal; null means continue normal play
+		checkForBlackjack();
+		activeSeat = nextSeatToAct(0);
+		if (activeSeat < 0) {
+			finishRound();
+		}
+		publishSnapshot();
+		saveRound();
+		if (timed) {
+			Metrics.DEAL.recordSince(start);
+		}
+		return seatResults[0];
+	}
+
+	/**
+	 * Player hits: deals one card to seat 0, or to the seat whose turn it is on
+	 * a multi-seat table.
+	 *
+	 * @return LOSS if the hand busts; null otherwise.
+	 */
+	public GameResult playerHits() {
+		return playerHits(activeSeat < 0 ? 0 : activeSeat);
+	}
+
+	/**
+	 * Seat hits: deals one card to the given seat. A bust settles the seat as a
+	 * loss and passes the turn to the next seat. Ignored unless it is the seat's
+	 * turn, so seats always act in table order.
+	 *
+	 * @param seat the seat index
+	 * @return the seat's result if it is settled; null otherwise.
+	 */
+	public GameResult playerHits(int seat) {
+		if (!roundActive || seat != activeSeat) {
+			return seatResults[seat];
+		}
+		long start = timed ? System.nanoTime() : 0;
+		dealToSeat(seat);
+		if (seats.get(seat).calculateHandValue() > 21) {
+			seatResults[seat] = GameResult.LOSS;
+			endTurn(seat);
+		}
+		publishSnapshot();
+		saveRound();
+		if (timed) {
+			Metrics.HIT.recordSince(start);
+		}
+		return seatResults[seat];
+	}
+
+	/**
+	 * Player stands: ends the turn of seat 0, or of the seat whose turn it is on
+	 * a multi-seat table.
+	 *
+	 * @return GameResult WIN, LOSS, or PUSH based on final hand comparison, or
+	 *         null while other seats still have to act.
+	 */
+	public GameResult playerStands() {
+		return playerStands(activeSeat < 0 ? 0 : activeSeat);
+	}
+
+	/**
+	 * Seat stands: ends the given seat's turn. When it was the last seat to act,
+	 * reveals dealer's down card, executes dealer's turn, and settles every seat.
+	 * Ignored unless it is the seat's turn.
+	 *
+	 * @param seat the seat index
+	 * @return the seat's result once the round is settled; null while other
+	 *         seats still have to act.
+	 */
+	public GameResult playerStands(int seat) {
+		if (roundActive && seat == activeSeat) {
+			long start = timed ? System.nanoTime() : 0;
+			endTurn(seat);
+			publishSnapshot();
+			saveRound();
+			if (timed) {
+				Metrics.STAND.recordSince(start);
+			}
+		}
+		return seatResults[seat];
+	}
+
+	/**
+	 * Dealer's turn: hits until standing threshold is reached.
+	 */
+	public void dealerTurn() {
+		playDealer();
+		publishSnapshot();
+	}
+
+	// Helper: draw dealer cards until the dealer stands
+	private void playDealer() {
+		long start = timed ? System.nanoTime() : 0;
+		while (dealer.decideAction(null) == PlayerAction.HIT) {
+			dealToDealer();
+		}
+		if (timed) {
+			Metrics.DEALER_TURN.recordSince(start);
+		}
+	}
+
+	/**
+	 * Determines the outcome of seat 0 by comparing its hand with the dealer's.
+	 *
+	 * @return WIN if human wins, LOSS if dealer wins, or PUSH for a tie.
+	 */
+	public GameResult determineOutcome() {
+		return determineOutcome(0);
+	}
+
+	/**
+	 * Determines the outcome of a seat by comparing its hand with the dealer's.
+	 *
+	 * @param seat the seat index
+	 * @return WIN if the seat wins, LOSS if dealer wins, or PUSH for a tie.
+	 */
+	public GameResult determineOutcome(int seat) {
+		int playerTotal = seats.get(seat).calculateHandValue();
+		if (playerTotal > 21) {
+			return GameResult.LOSS;
+		}
+		int dealerTotal = dealer.calculateHandValue();
+		if (dealerTotal > 21) {
+			return GameResult.WIN;
+		}
+		if (playerTotal > dealerTotal) {
+			return GameResult.WIN;
+		}
+		if (playerTotal < dealerTotal) {
+			return GameResult.LOSS;
+		}
+		return GameResult.PUSH;
+	}
+
+	/**
+	 * @return the deck used for drawing cards
+	 */
+	public Deck getDeck() {
+		return deck;
+	}
+
+	/**
+	 * @return the number of wins recorded
+	 */
+	public int getWins() {
+		return wins;
+	}
+
+	/**
+	 * @return the number of losses recorded
+	 */
+	public int getLosses() {
+		return losses;
+	}
+
+	/**
+	 * @return the human player instance (seat 0)
+	 */
+	public HumanPlayer getHuman() {
+		return human;
+	}
+
+	/**
+	 * @param seat the seat index
+	 * @return the player sitting in the given seat
+	 */
+	public HumanPlayer getSeat(int seat) {
+		return seats.get(seat);
+	}
+
+	/**
+	 * @return the number of seats at this table
+	 */
+	public int getSeatCount() {
+		return seats.size();
+	}
+
+	/**
+	 * @return the index of the seat whose turn it is, or -1 if none
+	 */
+	public int getActiveSeat() {
+		return activeSeat;
+	}
+
+	/**
+	 * @param seat the seat index
+	 * @return the seat's result this round, or null if not yet settled
+	 */
+	public GameResult getSeatResult(int seat) {
+		return seatResults[seat];
+	}
+
+	/**
+	 * @return the dealer instance
+	 */
+	public Dealer getDealer() {
+		return dealer;
+	}
+
+	// Accessors for UI/controller
+	public List<Card> getHumanHand() {
+		return human.getHand();
+	}
+
+	public List<Card> getDealerHand() {
+		return dealer.getHand();
+	}
+
+	public int getDealerUpCardValue() {
+		Card up = dealer.getHand().get(0);
+		return up.getValue();
+	}
+
+	/**
+	 * @return the dealer's up-card
+	 */
+	public Card getDealerUpCard() {
+		return dealer.getHand().get(0);
+	}
+
+	/**
+	 * @return the player's hand total value
+	 */
+	public int getPlayerTotal() {
+		return human.calculateHandValue();
+	}
+
+	/**
+	 * @return the dealer's hand total value
+	 */
+	public int getDealerTotal() {
+		return dealer.calculateHandValue();
+	}
+
+	/**
+	 * @return the remaining cards in the deck
+	 */
+	public int getDeckSize() {
+		return deck.getSize();
+	}
+
+	/**
+	 * Returns the live counts of the cards not seen at the table: the undealt
+	 * shoe plus the dealer's down card while it is hidden.
+	 *
+	 * @return the unseen-card composition
+	 */
+	public ShoeComposition getShoeComposition() {
+		return deck.getComposition();
+	}
+
+	/**
+	 * Reveals the dealer's down card by setting the dealer's face-down flag to
+	 * false.
+	 */
+	public void revealDealerDownCard() {
+		revealHoleCard();
+		publishSnapshot();
+	}
+
+	// Helper: turn the hole card face-up, if it is still hidden
+	private void revealHoleCard() {
+		if (dealer.isHoleCardHidden()) {
+			dealer.setHoleCardHidden(false);
+			deck.getComposition().remove(dealer.getHand().get(1));
+			broadcast(DeltaType.HOLE_CARD_REVEALED, TableDelta.DEALER, 1, dealer.getHand().get(1), null);
+		}
+	}
+
+	/**
+	 * Returns the most recently published table state. Safe to call from any
+	 * thread; the returned snapshot never changes.
+	 *
+	 * @return the latest immutable snapshot
+	 */
+	public TableSnapshot getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Captures the current table state and publishes it as the new snapshot.
+	 * Called once at the end of every public state transition.
+	 *
+	 * Hands are frozen into immutable lists only when they changed since the
+	 * last snapshot, and unchanged seats are shared with it, so a transition
+	 * costs about one snapshot object plus a copy of the hands it touched.
+	 */
+	private void publishSnapshot() {
+		if (seatViews == null) {
+			seatViews = new TableSnapshot.Seat[seats.size()];
+		}
+		boolean seatsChanged = seatViewList == null;
+		for (int i = 0; i < seats.size(); i++) {
+			TableSnapshot.Seat previous = seatViews[i];
+			List<Card> hand = frozen(previous == null ? null : previous.getHand(), seats.get(i).getHand());
+			if (previous == null || previous.getHand() != hand || previous.isDone() != seatDone[i]
+					|| previous.getResult() != seatResults[i]) {
+				seatViews[i] = new TableSnapshot.Seat(hand, seats.get(i).calculateHandValue(), seatDone[i],
+						seatResults[i]);
+				seatsChanged = true;
+			}
+		}
+		if (seatsChanged) {
+			seatViewList = List.of(seatViews);
+		}
+		dealerHandView = frozen(dealerHandView, dealer.getHand());
+		int upCardValue = dealerHandView.isEmpty() ? 0 : dealerHandView.get(0).getValue();
+		snapshot = new TableSnapshot(++snapshotVersion, seatViewList, activeSeat, dealerHandView,
+				dealer.calculateHandValue(), upCardValue, deck.getSize(), wins, losses, roundActive,
+				dealer.isHoleCardHidden());
+		if (spectators != null) {
+			spectators.markSnapshot(snapshot);
+		}
+	}
+
+	// Helper: the frozen copy of a hand, reusing the previous one if the hand
+	// still holds the same cards (cards are canonical, so identity suffices)
+	private static List<Card> frozen(List<Card> previous, List<Card> hand) {
+		if (previous != null && previous.size() == hand.size()) {
+			boolean same = true;
+			for (int i = 0; i < hand.size() && same; i++) {
+				same = previous.get(i) == hand.get(i);
+			}
+			if (same) {
+				return previous;
+			}
+		}
+		return List.copyOf(hand);
+	}
+
+	/**
+	 * Attaches a channel that receives every table change from now on, or
+	 * detaches it when null. Spectators subscribe to the channel, never to the
+	 * model.
+	 *
+	 * @param spectators the channel to publish to, or null
+	 */
+	public void setSpectatorChannel(SpectatorChannel spectators) {
+		this.spectators = spectators;
+		if (spectators != null) {
+			spectators.markSnapshot(snapshot);
+		}
+	}
+
+	/**
+	 * Publishes every table change from now on to an event bus. The record
+	 * file, if any, is then saved by a consumer of the bus instead of on the
+	 * table's thread after every round. Attach once, before play starts.
+	 *
+	 * @param events the bus to publish to
+	 */
+	public void setEventBus(EventBus events) {
+		this.events = events;
+		if (fileManager != null) {
+			events.addConsumer("record-writer", new RecordWriter(fileManager, wins, losses));
+			recordSavedByEvents = true;
+		}
+	}
+
+	/**
+	 * Reports every settled hand from now on to a leaderboard, or stops when
+	 * null.
+	 *
+	 * @param leaderboard   the leaderboard to report to, or null
+	 * @param seatPlayerIds the player id of each seat, in seat order
+	 */
+	public void setLeaderboard(Leaderboard leaderboard, String... seatPlayerIds) {
+		if (leaderboard != null && seatPlayerIds.length != seats.size()) {
+			throw new IllegalArgumentException(
+					"Expected " + seats.size() + " player ids, got " + seatPlayerIds.length);
+		}
+		this.leaderboard = leaderboard;
+		this.seatPlayerIds = seatPlayerIds.clone();
+	}
+
+	/**
+	 * Turns the deal, hit, stand and dealer-turn timers in Metrics on or off
+	 * for this table; they are on by default. The timers are shared by the
+	 * whole process, so simulated tables playing on many threads turn them
+	 * off rather than contend on them for every action.
+	 *
+	 * @param timed true to record action latencies
+	 */
+	public void setTimed(boolean timed) {
+		this.timed = timed;
+	}
+
+	/**
+	 * @return the number of rounds started on this table
+	 */
+	public long getRoundNumber() {
+		return roundNumber;
+	}
+
+	/**
+	 * @return the largest encoded table state: fixed fields, every seat and the
+	 *         dealer holding Player.MAX_CARDS cards, and the shoe
+	 */
+	private int stateSize() {
+		int hand = 1 + Player.MAX_CARDS;
+		return 8 + 4 + 4 + 1 + 1 + 1 + 1 + seats.size() * (1 + 1 + hand) + hand + deck.getStateSize();
+	}
+
+	/**
+	 * Snapshots the whole table to the round store, if any.
+	 */
+	private void saveRound() {
+		if (roundStore == null) {
+			return;
+		}
+		long start = System.nanoTime();
+		ByteBuffer buffer = roundStore.begin();
+		buffer.putLong(roundNumber);
+		buffer.putInt(wins);
+		buffer.putInt(losses);
+		buffer.put((byte) (roundActive ? 1 : 0));
+		buffer.put((byte) activeSeat);
+		buffer.put((byte) (dealer.isHoleCardHidden() ? 1 : 0));
+		buffer.put((byte) seats.size());
+		for (int i = 0; i < seats.size(); i++) {
+			buffer.put((byte) (seatResults[i] == null ? -1 : seatResults[i].ordinal()));
+			buffer.put((byte) (seatDone[i] ? 1 : 0));
+			writeHand(buffer, seats.get(i));
+		}
+		writeHand(buffer, dealer);
+		deck.writeState(buffer);
+		roundStore.commit(start);
+	}
+
+	// Helper: encode a hand as a card count followed by card indices
+	private static void writeHand(ByteBuffer buffer, Player player) {
+		List<Card> hand = player.getHand();
+		buffer.put((byte) hand.size());
+		for (Card card : hand) {
+			buffer.put((byte) card.getIndex());
+		}
+	}
+
+	/**
+	 * Restores the table from state written by saveRound. A snapshot of a
+	 * different table (seat count or shoe size) is ignored.
+	 */
+	private void restoreState(ByteBuffer buffer) {
+		long savedRound = buffer.getLong();
+		int savedWins = buffer.getInt();
+		int savedLosses = buffer.getInt();
+		boolean savedActive = buffer.get() != 0;
+		int savedActiveSeat = buffer.get();
+		boolean savedHidden = buffer.get() != 0;
+		if (buffer.get() != seats.size()) {
+			return;
+		}
+		GameResult[] results = new GameResult[seats.size()];
+		boolean[] done = new boolean[seats.size()];
+		Card[][] hands = new Card[seats.size() + 1][];
+		for (int i = 0; i < seats.size(); i++) {
+			int result = buffer.get();
+			results[i] = result < 0 ? null : GameResult.values()[result];
+			done[i] = buffer.get() != 0;
+			hands[i] = readHand(buffer);
+		}
+		hands[seats.size()] = readHand(buffer);
+		try {
+			deck.readState(buffer);
+		} catch (IllegalArgumentException e) {
+			return; // saved with another shoe size
+		}
+
+		roundNumber = savedRound;
+		wins = savedWins;
+		losses = savedLosses;
+		roundActive = savedActive;
+		activeSeat = savedActiveSeat;
+		for (int i = 0; i < seats.size(); i++) {
+			seatResults[i] = results[i];
+			seatDone[i] = done[i];
+			seats.get(i).clearHand();
+			for (Card card : hands[i]) {
+				seats.get(i).addCard(card);
+			}
+		}
+		dealer.clearHand();
+		for (Card card : hands[seats.size()]) {
+			dealer.addCard(card);
+		}
+		dealer.setHoleCardHidden(savedHidden);
+		if (savedHidden) {
+			deck.getComposition().add(dealer.getHand().get(1));
+		}
+	}
+
+	// Helper: decode a hand written by writeHand
+	private static Card[] readHand(ByteBuffer buffer) {
+		Card[] hand = new Card[buffer.get()];
+		for (int i = 0; i < hand.length; i++) {
+			hand[i] = Card.of(buffer.get());
+		}
+		return hand;
+	}
+
+	/**
+	 * Publishes one table change to the spectator channel and the event bus,
+	 * if any.
+	 */
+	private void broadcast(DeltaType type, int seat, int position, Card card, GameResult result) {
+		if (spectators == null && events == null) {
+			return;
+		}
+		long delta = TableDelta.encode(type, roundNumber, seat, position, card, result);
+		if (spectators != null) {
+			spectators.publish(delta);
+		}
+		if (events != null) {
+			events.publish(delta);
+		}
+	}
+
+	/**
+	 * Deals one card from the shoe to a seat.
+	 */
+	private void dealToSeat(int seat) {
+		HumanPlayer player = seats.get(seat);
+		Card card = drawCard();
+		player.addCard(card);
+		broadcast(DeltaType.CARD_DEALT, seat, player.getHand().size() - 1, card, null);
+	}
+
+	/**
+	 * Deals one card from the shoe to the dealer; the hole card is announced
+	 * without its identity while it is face-down.
+	 */
+	private void dealToDealer() {
+		Card card = drawCard();
+		dealer.addCard(card);
+		int position = dealer.getHand().size() - 1;
+		if (position == 1 && dealer.isHoleCardHidden()) {
+			deck.getComposition().add(card); // still unseen at the table
+			broadcast(DeltaType.HOLE_CARD_DEALT, TableDelta.DEALER, position, null, null);
+		} else {
+			broadcast(DeltaType.CARD_DEALT, TableDelta.DEALER, position, card, null);
+		}
+	}
+
+	/**
+	 * Deals the next card from the shared shoe. If a crowded single-deck table
+	 * exhausts the deck mid-round, the discards are shuffled back in; cards
+	 * still on the table stay out of the shoe.
+	 *
+	 * @return the dealt Card
+	 */
+	private Card drawCard() {
+		if (deck.getSize() == 0) {
+			List<List<Card>> inPlay = new ArrayList<>(seats.size() + 1);
+			for (HumanPlayer seat : seats) {
+				inPlay.add(seat.getHand());
+			}
+			inPlay.add(dealer.getHand());
+			deck.reshuffleDiscards(inPlay);
+			if (dealer.isHoleCardHidden() && dealer.getHand().size() > 1) {
+				deck.getComposition().add(dealer.getHand().get(1)); // still unseen
+			}
+		}
+		return deck.dealCard();
+	}
+
+	/**
+	 * Marks a seat as finished and passes the turn on; settles the round once
+	 * no seat is left to act.
+	 */
+	private void endTurn(int seat) {
+		seatDone[seat] = true;
+		activeSeat = nextSeatToAct(seat + 1);
+		if (activeSeat < 0) {
+			finishRound();
+		}
+	}
+
+	/**
+	 * @return the first seat at or after from that still has to act, or -1;
+	 *         seats before the active one have always finished
+	 */
+	private int nextSeatToAct(int from) {
+		for (int i = from; i < seats.size(); i++) {
+			if (!seatDone[i]) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Reveals the dealer's down card, plays the dealer's hand if any seat still
+	 * needs it, settles every unsettled seat, and records the results.
+	 */
+	private void finishRound() {
+		revealHoleCard();
+		boolean dealerNeeded = false;
+		for (GameResult result : seatResults) {
+			if (result == null) {
+				dealerNeeded = true;
+			}
+		}
+		if (dealerNeeded) {
+			playDealer();
+			for (int i = 0; i < seatResults.length; i++) {
+				if (seatResults[i] == null) {
+					seatResults[i] = determineOutcome(i);
+				}
+			}
+		}
+		for (int i = 0; i < seatResults.length; i++) {
+			broadcast(DeltaType.SEAT_SETTLED, i, 0, null, seatResults[i]);
+		}
+		broadcast(DeltaType.ROUND_ENDED, TableDelta.DEALER, 0, null, null);
+		updateRecord(seatResults);
+		Metrics.ROUNDS.increment();
+		activeSeat = -1;
+		roundActive = false;
+	}
+
+	/**
+	 * Updates in-memory and persisted win/loss record, ignoring PUSH.
+	 *
+	 * @param results the GameResult of every seat to record
+	 */
+	private void updateRecord(GameResult[] results) {
+		for (GameResult result : results) {
+			if (result == GameResult.WIN) {
+				wins++;
+			} else if (result == GameResult.LOSS) {
+				losses++;
+			}
+		}
+		if (fileManager != null && !recordSavedByEvents) {
+			fileManager.saveRecord(wins, losses);
+		}
+		if (leaderboard != null) {
+			for (int i = 0; i < results.length; i++) {
+				leaderboard.record(seatPlayerIds[i], results[i]);
+			}
+		}
+	}
+
+	/**
+	 * @return true if a round is currently active
+	 */
+	public boolean isRoundActive() {
+		return roundActive;
+	}
+
+	/**
+	 * @return true if the human player's hand value exceeds 21 (bust)
+	 */
+	public boolean isPlayerBust() {
+		return human.calculateHandValue() > 21;
+	}
+
+	/**
+	 * Checks for blackjack for every seat and the dealer.
+	 * A dealer blackjack settles every seat at once (PUSH against a seat
+	 * blackjack, LOSS otherwise); a seat blackjack alone settles that seat as a
+	 * WIN and ends its turn.
+	 */
+	private void checkForBlackjack() {
+		// Determine if either hand is a blackjack (exactly two cards totaling 21)
+		boolean dealerBlackjack = dealer.getHand().size() == 2 && dealer.calculateHandValue() == 21;
+		for (int i = 0; i < seats.size(); i++) {
+			HumanPlayer seat = seats.get(i);
+			boolean playerBlackjack = seat.getHand().size() == 2 && seat.calculateHandValue() == 21;
+			if (playerBlackjack && dealerBlackjack) {
+				seatResults[i] = GameResult.PUSH;
+			} else if (playerBlackjack) {
+				seatResults[i] = GameResult.WIN;
+			} else if (dealerBlackjack) {
+				seatResults[i] = GameResult.LOSS;
+			}
+			seatDone[i] = seatResults[i] != null;
+		}
+	}
+}
@@ -8,6 +8,12 @@ import java.util.ArrayList;
  */
 public abstract class Player {
 
+    /**
+     * Most cards one hand can hold: 21 aces from a large shoe plus the card
+     * that busts them.
+     */
+    public static final int MAX_CARDS = 22;
+
 	// A player has-many cards that are in his hand
     ArrayList<Card> hand = new ArrayList<>();
 
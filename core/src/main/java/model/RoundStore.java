@@ -0,0 +1,133 @@
+package model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import metrics.Metrics;
+
+/**
+ * Keeps a binary snapshot of the table, including a round in progress, in
+ * data/round.bin so a restarted game can pick up exactly where it stopped.
+ *
+ * The snapshot is encoded into one preallocated buffer and written with a
+ * single positional write at offset 0, so saving after every action costs a
+ * few microseconds. The file is not forced to disk: it survives the process
+ * dying, which is what it is for. A header with the payload length and a
+ * CRC32 lets load() reject a torn or foreign file.
+ */
+public class RoundStore {
+
+	/**
+	 * Default snapshot file.
+	 */
+	public static final String DEFAULT_PATH = "data/round.bin";
+
+	private static final int MAGIC = 0x424A524E; // "BJRN"
+	private static final short VERSION = 1;
+	// magic, version, payload length, payload CRC32
+	private static final int HEADER_SIZE = 4 + 2 + 4 + 4;
+
+	// A RoundStore has-a snapshot file
+	private final Path path;
+	// Reused encoding buffer: header followed by the payload
+	private final ByteBuffer buffer;
+	// A RoundStore has-a channel to the file, opened on first save
+	private FileChannel channel;
+	// A RoundStore has-a checksum, reused for every save
+	private final CRC32 crc = new CRC32();
+
+	/**
+	 * Constructs a RoundStore for the default file.
+	 *
+	 * @param maxPayload the largest snapshot payload, in bytes
+	 */
+	public RoundStore(int maxPayload) {
+		this(Paths.get(DEFAULT_PATH), maxPayload);
+	}
+
+	/**
+	 * @param path       the snapshot file
+	 * @param maxPayload the largest snapshot payload, in bytes
+	 */
+	public RoundStore(Path path, int maxPayload) {
+		this.path = path;
+		this.buffer = ByteBuffer.allocate(HEADER_SIZE + maxPayload);
+	}
+
+	/**
+	 * Starts a save: returns the buffer, cleared and positioned for the
+	 * payload. Finish with commit().
+	 *
+	 * @return the buffer to encode the snapshot into
+	 */
+	ByteBuffer begin() {
+		buffer.clear();
+		buffer.position(HEADER_SIZE);
+		return buffer;
+	}
+
+	/**
+	 * Writes the payload encoded since begin() over the previous snapshot.
+	 *
+	 * @param start System.nanoTime() when the save began, for metrics
+	 */
+	void commit(long start) {
+		int length = buffer.position() - HEADER_SIZE;
+		crc.reset();
+		crc.update(buffer.array(), HEADER_SIZE, length);
+		buffer.putInt(0, MAGIC);
+		buffer.putShort(4, VERSION);
+		buffer.putInt(6, length);
+		buffer.putInt(10, (int) crc.getValue());
+		buffer.flip();
+		try {
+			if (channel == null) {
+				if (path.getParent() != null) {
+					Files.createDirectories(path.getParent());
+				}
+				channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+			}
+			channel.write(buffer, 0);
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+		Metrics.ROUND_SAVE.recordSince(start);
+	}
+
+	/**
+	 * Reads the last snapshot written.
+	 *
+	 * @return the payload, or null if there is no valid snapshot
+	 */
+	ByteBuffer load() {
+		if (!Files.exists(path)) {
+			return null;
+		}
+		try {
+			ByteBuffer file = ByteBuffer.wrap(Files.readAllBytes(path));
+			if (file.remaining() < HEADER_SIZE || file.getInt() != MAGIC || file.getShort() != VERSION) {
+				return null;
+			}
+			int length = file.getInt();
+			int expected = file.getInt();
+			if (length < 0 || length > file.remaining()) {
+				return null;
+			}
+			crc.reset();
+			crc.update(file.array(), HEADER_SIZE, length);
+			if ((int) crc.getValue() != expected) {
+				return null;
+			}
+			return ByteBuffer.wrap(file.array(), HEADER_SIZE, length).slice();
+		} catch (IOException e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+}
@@ -0,0 +1,232 @@
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Counts of the cards a player at the table has not seen yet, kept per rank
+ * as cards are dealt, so draw odds never need a scan of the shoe.
+ *
+ * Every Deck owns one: dealing a card removes it and a reset restores a full
+ * shoe, each in constant time. GameModel returns the dealer's hole card while
+ * it is face-down, since the player cannot see it either.
+ *
+ * The odds of the next card (bust, ten) are a few additions. The dealer's bust
+ * odds for every up card are worked out together by a memoized recursion over
+ * (total, soft) using the current draw probabilities, and cached until the
+ * next card is seen. They are conditioned on the dealer not holding a
+ * blackjack, which the table has already ruled out when the player acts.
+ */
+public class ShoeComposition {
+
+	// Point values 1 (ace) to 10 index the value counts
+	private static final int VALUES = 11;
+	// Totals 0 to 21 index the recursion memo
+	private static final int TOTALS = 22;
+	// Point value of each Rank ordinal, with the ace counted as 1
+	private static final int[] POINT_VALUE = new int[Rank.values().length];
+
+	static {
+		for (Rank rank : Rank.values()) {
+			POINT_VALUE[rank.ordinal()] = rank == Rank.ACE ? 1 : Card.of(rank, Suit.SPADES).getValue();
+		}
+	}
+
+	// A ShoeComposition has-a number of decks in a full shoe
+	private final int deckCount;
+	// Unseen cards by Rank ordinal
+	private final int[] rankCounts = new int[Rank.values().length];
+	// Unseen cards by point value, with the ace counted as 1
+	private final int[] valueCounts = new int[VALUES];
+	// Total unseen cards
+	private int size;
+	// Dealer bust odds by up-card value, or null until needed again
+	private double[] dealerBust;
+	// Recursion memo: probability the dealer busts from [soft][total]
+	private final double[][] bustFrom = new double[2][TOTALS];
+	private final boolean[][] bustKnown = new boolean[2][TOTALS];
+
+	/**
+	 * Creates the composition of a full shoe.
+	 *
+	 * @param deckCount the number of 52-card decks in the shoe
+	 */
+	public ShoeComposition(int deckCount) {
+		this.deckCount = deckCount;
+		reset();
+	}
+
+	/**
+	 * Restores the counts of a full shoe.
+	 */
+	public void reset() {
+		Arrays.fill(rankCounts, deckCount * Suit.values().length);
+		Arrays.fill(valueCounts, 0);
+		for (Rank rank : Rank.values()) {
+			valueCounts[pointValue(rank)] += rankCounts[rank.ordinal()];
+		}
+		size = deckCount * Card.DECK_SIZE;
+		dealerBust = null;
+	}
+
+	/**
+	 * Empties the counts, before the unseen cards are added one by one.
+	 */
+	public void clear() {
+		Arrays.fill(rankCounts, 0);
+		Arrays.fill(valueCounts, 0);
+		size = 0;
+		dealerBust = null;
+	}
+
+	/**
+	 * Counts a card as seen.
+	 *
+	 * @param card the card dealt face-up or revealed
+	 */
+	public void remove(Card card) {
+		rankCounts[card.getRank().ordinal()]--;
+		valueCounts[pointValue(card.getRank())]--;
+		size--;
+		dealerBust = null;
+	}
+
+	/**
+	 * Counts a card as unseen again.
+	 *
+	 * @param card the card, e.g. a hole card dealt face-down
+	 */
+	public void add(Card card) {
+		rankCounts[card.getRank().ordinal()]++;
+		valueCounts[pointValue(card.getRank())]++;
+		size++;
+		dealerBust = null;
+	}
+
+	/**
+	 * @param rank a rank
+	 * @return the number of unseen cards of that rank
+	 */
+	public int getCount(Rank rank) {
+		return rankCounts[rank.ordinal()];
+	}
+
+	/**
+	 * @return the number of unseen cards
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return the probability that the next card is worth ten
+	 */
+	public double getTenProbability() {
+		return size == 0 ? 0.0 : (double) valueCounts[10] / size;
+	}
+
+	/**
+	 * Returns the probability that one more card takes a hand over 21. Only
+	 * the hand's total with every ace counted as 1 matters: a soft hand cannot
+	 * bust on one card.
+	 *
+	 * @param hand the cards in the hand
+	 * @return the bust probability of a hit
+	 */
+	public double getBustProbability(List<Card> hand) {
+		int hardTotal = 0;
+		for (Card card : hand) {
+			hardTotal += pointValue(card.getRank());
+		}
+		if (size == 0) {
+			return 0.0;
+		}
+		int busting = 0;
+		for (int value = Math.max(1, 22 - hardTotal); value < VALUES; value++) {
+			busting += valueCounts[value];
+		}
+		return (double) busting / size;
+	}
+
+	/**
+	 * Returns the probability that the dealer busts, hitting soft 17, given
+	 * the up card and no dealer blackjack.
+	 *
+	 * @param upCard the dealer's face-up card
+	 * @return the dealer bust probability
+	 */
+	public double getDealerBustProbability(Card upCard) {
+		if (dealerBust == null) {
+			dealerBust = computeDealerBust();
+		}
+		return dealerBust[pointValue(upCard.getRank())];
+	}
+
+	// Helper: dealer bust odds for every up-card value at the current counts
+	private double[] computeDealerBust() {
+		double[] result = new double[VALUES];
+		if (size == 0) {
+			return result;
+		}
+		for (boolean[] known : bustKnown) {
+			Arrays.fill(known, false);
+		}
+		for (int up = 1; up < VALUES; up++) {
+			// the hole card cannot complete a blackjack
+			int excluded = up == 1 ? 10 : up == 10 ? 1 : 0;
+			int drawable = size - (excluded == 0 ? 0 : valueCounts[excluded]);
+			if (drawable == 0) {
+				continue;
+			}
+			int total = up == 1 ? 11 : up;
+			boolean soft = up == 1;
+			double bust = 0.0;
+			for (int hole = 1; hole < VALUES; hole++) {
+				if (hole != excluded && valueCounts[hole] > 0) {
+					bust += valueCounts[hole] * afterDraw(total, soft, hole);
+				}
+			}
+			result[up] = bust / drawable;
+		}
+		return result;
+	}
+
+	// Helper: probability the dealer busts after drawing a card of the given value
+	private double afterDraw(int total, boolean soft, int value) {
+		if (value == 1 && total + 11 <= 21) {
+			return bustFrom(total + 11, true);
+		}
+		int next = total + value;
+		if (next > 21) {
+			if (!soft) {
+				return 1.0;
+			}
+			return bustFrom(next - 10, false);
+		}
+		return bustFrom(next, soft);
+	}
+
+	// Helper: probability the dealer busts from a total, memoized
+	private double bustFrom(int total, boolean soft) {
+		if (total > Dealer.STAND_THRESHOLD || total == Dealer.STAND_THRESHOLD && !soft) {
+			return 0.0; // stands; soft 17 hits
+		}
+		int s = soft ? 1 : 0;
+		if (!bustKnown[s][total]) {
+			double bust = 0.0;
+			for (int value = 1; value < VALUES; value++) {
+				if (valueCounts[value] > 0) {
+					bust += valueCounts[value] * afterDraw(total, soft, value);
+				}
+			}
+			bustFrom[s][total] = bust / size;
+			bustKnown[s][total] = true;
+		}
+		return bustFrom[s][total];
+	}
+
+	// Helper: point value of a rank with the ace counted as 1
+	private static int pointValue(Rank rank) {
+		return POINT_VALUE[rank.ordinal()];
+	}
+}
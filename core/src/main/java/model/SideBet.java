@@ -0,0 +1,198 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * The side bets a seat can place before the deal, settled on the seat's first
+ * two cards and the dealer's up card. Payouts are net units per unit staked:
+ * a winning outcome pays the listed odds, anything else loses the stake.
+ *
+ * Every possible card combination is settled once, when the class loads, into
+ * a byte table indexed by packed Card.getIndex() values (suit * 13 + rank), so
+ * settling a bet is a single array read.
+ */
+public enum SideBet {
+
+	/**
+	 * 21+3: the seat's two cards and the dealer's up card as a poker hand.
+	 * Suited trips 100:1, straight flush 40:1, three of a kind 30:1, straight
+	 * 10:1, flush 5:1. Aces play high or low (Q-K-A and A-2-3 are straights).
+	 */
+	TWENTY_ONE_PLUS_THREE(3),
+
+	/**
+	 * Perfect Pairs: the seat's two cards. Perfect pair (same rank and suit)
+	 * 25:1, coloured pair (same rank and colour) 12:1, mixed pair 6:1.
+	 */
+	PERFECT_PAIRS(2);
+
+	// Cards the bet looks at: the seat's first two, then the dealer's up card
+	private final int cards;
+	// Winning odds per combination of card indices; 0 loses
+	private final byte[] odds;
+
+	SideBet(int cards) {
+		this.cards = cards;
+		this.odds = new byte[cards == 3 ? Card.DECK_SIZE * Card.DECK_SIZE * Card.DECK_SIZE
+				: Card.DECK_SIZE * Card.DECK_SIZE];
+		for (int i = 0; i < odds.length; i++) {
+			odds[i] = (byte) (cards == 3 ? threeCardOdds(i) : pairOdds(i));
+		}
+	}
+
+	/**
+	 * Settles the bet.
+	 *
+	 * @param first  the seat's first card
+	 * @param second the seat's second card
+	 * @param upCard the dealer's up card (ignored by Perfect Pairs)
+	 * @return units won, or -1 if the bet loses
+	 */
+	public int settle(Card first, Card second, Card upCard) {
+		return settle(first.getIndex(), second.getIndex(), upCard.getIndex());
+	}
+
+	/**
+	 * Settles the bet from card indices.
+	 *
+	 * @param first  the seat's first card index
+	 * @param second the seat's second card index
+	 * @param upCard the dealer's up card index (ignored by Perfect Pairs)
+	 * @return units won, or -1 if the bet loses
+	 */
+	public int settle(int first, int second, int upCard) {
+		int index = first * Card.DECK_SIZE + second;
+		if (cards == 3) {
+			index = index * Card.DECK_SIZE + upCard;
+		}
+		int paid = odds[index];
+		return paid == 0 ? -1 : paid;
+	}
+
+	/**
+	 * Computes the exact house edge for a shoe of the given composition, over
+	 * every ordered draw of the bet's cards without replacement.
+	 *
+	 * @param counts the number of copies left of each card, by card index
+	 * @return the expected loss per unit staked (negative if the bet favours
+	 *         the player)
+	 */
+	public double houseEdge(int[] counts) {
+		long total = 0;
+		for (int count : counts) {
+			total += count;
+		}
+		if (total < cards) {
+			throw new IllegalArgumentException("Shoe holds fewer than " + cards + " cards");
+		}
+		// sum of payout * ways, over ordered draws, in exact integer arithmetic;
+		// at most total^3 * the top payout, far inside a long for any real shoe
+		long expected = 0;
+		for (int a = 0; a < Card.DECK_SIZE; a++) {
+			long waysA = counts[a];
+			if (waysA == 0) {
+				continue;
+			}
+			for (int b = 0; b < Card.DECK_SIZE; b++) {
+				long waysB = waysA * (counts[b] - (b == a ? 1 : 0));
+				if (waysB <= 0) {
+					continue;
+				}
+				if (cards == 2) {
+					expected += waysB * settle(a, b, 0);
+					continue;
+				}
+				long sum = 0;
+				int base = (a * Card.DECK_SIZE + b) * Card.DECK_SIZE;
+				for (int c = 0; c < Card.DECK_SIZE; c++) {
+					long ways = counts[c] - (c == a ? 1 : 0) - (c == b ? 1 : 0);
+					if (ways > 0) {
+						int paid = odds[base + c];
+						sum += ways * (paid == 0 ? -1 : paid);
+					}
+				}
+				expected += waysB * sum;
+			}
+		}
+		long draws = cards == 2 ? total * (total - 1) : total * (total - 1) * (total - 2);
+		return -(double) expected / draws;
+	}
+
+	/**
+	 * Computes the exact house edge for a full shoe.
+	 *
+	 * @param deckCount the number of 52-card decks
+	 * @return the expected loss per unit staked
+	 */
+	public double houseEdge(int deckCount) {
+		int[] counts = new int[Card.DECK_SIZE];
+		Arrays.fill(counts, deckCount);
+		return houseEdge(counts);
+	}
+
+	// Helper: 21+3 odds for a packed (first, second, up card) index
+	private static int threeCardOdds(int packed) {
+		int a = packed / (Card.DECK_SIZE * Card.DECK_SIZE);
+		int b = packed / Card.DECK_SIZE % Card.DECK_SIZE;
+		int c = packed % Card.DECK_SIZE;
+		int ranks = Rank.values().length;
+		int ra = a % ranks, rb = b % ranks, rc = c % ranks;
+		boolean flush = a / ranks == b / ranks && b / ranks == c / ranks;
+		boolean trips = ra == rb && rb == rc;
+		boolean straight = isStraight(ra, rb, rc);
+		if (trips && flush) {
+			return 100;
+		}
+		if (straight && flush) {
+			return 40;
+		}
+		if (trips) {
+			return 30;
+		}
+		if (straight) {
+			return 10;
+		}
+		if (flush) {
+			return 5;
+		}
+		return 0;
+	}
+
+	// Helper: true if three rank ordinals are consecutive, aces high or low
+	private static boolean isStraight(int ra, int rb, int rc) {
+		int low = Math.min(ra, Math.min(rb, rc));
+		int high = Math.max(ra, Math.max(rb, rc));
+		boolean distinct = ra != rb && rb != rc && ra != rc;
+		if (!distinct) {
+			return false;
+		}
+		if (high - low == 2) {
+			return true;
+		}
+		// A-2-3: ace is the highest ordinal, the others are TWO and THREE
+		int ace = Rank.ACE.ordinal();
+		return high == ace && low == Rank.TWO.ordinal()
+				&& ra + rb + rc == ace + Rank.TWO.ordinal() + Rank.THREE.ordinal();
+	}
+
+	// Helper: Perfect Pairs odds for a packed (first, second) index
+	private static int pairOdds(int packed) {
+		int a = packed / Card.DECK_SIZE;
+		int b = packed % Card.DECK_SIZE;
+		int ranks = Rank.values().length;
+		if (a % ranks != b % ranks) {
+			return 0;
+		}
+		Suit sa = Suit.values()[a / ranks];
+		Suit sb = Suit.values()[b / ranks];
+		if (sa == sb) {
+			return 25;
+		}
+		return isRed(sa) == isRed(sb) ? 12 : 6;
+	}
+
+	// Helper: true for the red suits
+	private static boolean isRed(Suit suit) {
+		return suit == Suit.DIAMONDS || suit == Suit.HEARTS;
+	}
+}
@@ -0,0 +1,232 @@
+package model;
+
+import java.util.List;
+
+/**
+ * Immutable view of the table taken right after a GameModel transition.
+ * A snapshot is published through a single volatile reference, so renderers
+ * and other readers on any thread see one consistent state without locking
+ * the model or walking its live hands. Consecutive snapshots share the
+ * frozen hands and seats that did not change between them.
+ */
+public final class TableSnapshot {
+
+	/**
+	 * Frozen state of one seat: its hand, total, and result.
+	 */
+	public static final class Seat {
+
+		// A Seat has-a frozen hand
+		private final List<Card> hand;
+		// A Seat has-a hand total
+		private final int total;
+		// True once the seat has finished acting this round
+		private final boolean done;
+		// Outcome for this seat, or null while it is unsettled
+		private final GameResult result;
+
+		Seat(List<Card> hand, int total, boolean done, GameResult result) {
+			this.hand = List.copyOf(hand);
+			this.total = total;
+			this.done = done;
+			this.result = result;
+		}
+
+		/**
+		 * @return the seat's cards, unmodifiable
+		 */
+		public List<Card> getHand() {
+			return hand;
+		}
+
+		/**
+		 * @return the seat's hand total value
+		 */
+		public int getTotal() {
+			return total;
+		}
+
+		/**
+		 * @return true if the seat has stood, busted, or been settled
+		 */
+		public boolean isDone() {
+			return done;
+		}
+
+		/**
+		 * @return WIN, LOSS, or PUSH once the seat is settled; null otherwise
+		 */
+		public GameResult getResult() {
+			return result;
+		}
+	}
+
+	// A TableSnapshot has-many frozen seats
+	private final List<Seat> seats;
+	// Index of the seat whose turn it was, or -1
+	private final int activeSeat;
+	// A TableSnapshot has-a frozen dealer hand
+	private final List<Card> dealerHand;
+	// A TableSnapshot has-a dealer total
+	private final int dealerTotal;
+	// A TableSnapshot has-a dealer up-card value
+	private final int dealerUpCardValue;
+	// A TableSnapshot has-a deck size
+	private final int deckSize;
+	// A TableSnapshot has-a count of wins and losses
+	private final int wins, losses;
+	// Round active flag at the time of the snapshot
+	private final boolean roundActive;
+	// True while the dealer's down card is still hidden
+	private final boolean dealerDownCardHidden;
+	// Increases by one with every published snapshot
+	private final long version;
+
+	TableSnapshot(long version, List<Seat> seats, int activeSeat, List<Card> dealerHand, int dealerTotal,
+			int dealerUpCardValue, int deckSize, int wins, int losses, boolean roundActive,
+			boolean dealerDownCardHidden) {
+		this.version = version;
+		this.seats = List.copyOf(seats);
+		this.activeSeat = activeSeat;
+		this.dealerHand = List.copyOf(dealerHand);
+		this.dealerTotal = dealerTotal;
+		this.dealerUpCardValue = dealerUpCardValue;
+		this.deckSize = deckSize;
+		this.wins = wins;
+		this.losses = losses;
+		this.roundActive = roundActive;
+		this.dealerDownCardHidden = dealerDownCardHidden;
+	}
+
+	/**
+	 * @return every seat at the table, in seat order
+	 */
+	public List<Seat> getSeats() {
+		return seats;
+	}
+
+	/**
+	 * @param seat the seat index
+	 * @return the frozen state of the given seat
+	 */
+	public Seat getSeat(int seat) {
+		return seats.get(seat);
+	}
+
+	/**
+	 * @return the index of the seat whose turn it was, or -1 if none
+	 */
+	public int getActiveSeat() {
+		return activeSeat;
+	}
+
+	/**
+	 * @return the player's (seat 0) cards, unmodifiable
+	 */
+	public List<Card> getPlayerHand() {
+		return seats.get(0).getHand();
+	}
+
+	/**
+	 * @return the dealer's cards, unmodifiable
+	 */
+	public List<Card> getDealerHand() {
+		return dealerHand;
+	}
+
+	/**
+	 * @return the player's (seat 0) hand total value
+	 */
+	public int getPlayerTotal() {
+		return seats.get(0).getTotal();
+	}
+
+	/**
+	 * @return the dealer's full hand total value
+	 */
+	public int getDealerTotal() {
+		return dealerTotal;
+	}
+
+	/**
+	 * @return the dealer's up-card value, or 0 before the first deal
+	 */
+	public int getDealerUpCardValue() {
+		return dealerUpCardValue;
+	}
+
+	/**
+	 * Returns the dealer total a player is allowed to see: the up-card value
+	 * while the down card is hidden, the full total afterwards.
+	 *
+	 * @return the visible dealer total
+	 */
+	public int getVisibleDealerTotal() {
+		return dealerDownCardHidden ? dealerUpCardValue : dealerTotal;
+	}
+
+	/**
+	 * @return the remaining cards in the deck
+	 */
+	public int getDeckSize() {
+		return deckSize;
+	}
+
+	/**
+	 * @return the number of wins recorded
+	 */
+	public int getWins() {
+		return wins;
+	}
+
+	/**
+	 * @return the number of losses recorded
+	 */
+	public int getLosses() {
+		return losses;
+	}
+
+	/**
+	 * @return true if a round was in progress
+	 */
+	public boolean isRoundActive() {
+		return roundActive;
+	}
+
+	/**
+	 * @return true if the dealer's down card was still face-down
+	 */
+	public boolean isDealerDownCardHidden() {
+		return dealerDownCardHidden;
+	}
+
+	/**
+	 * @return the player's (seat 0) result once settled; null otherwise
+	 */
+	public GameResult getResult() {
+		return seats.get(0).getResult();
+	}
+
+	/**
+	 * Returns what a spectator may see of this snapshot. While the dealer's
+	 * down card is hidden, the copy's dealer hand holds only the up card and
+	 * its dealer total is the up-card value, so neither gives the down card
+	 * away; otherwise nothing is hidden and this snapshot is returned.
+	 *
+	 * @return a snapshot safe to hand to spectators
+	 */
+	public TableSnapshot withoutHiddenCard() {
+		if (!dealerDownCardHidden || dealerHand.size() < 2) {
+			return this;
+		}
+		return new TableSnapshot(version, seats, activeSeat, dealerHand.subList(0, 1), dealerUpCardValue,
+				dealerUpCardValue, deckSize, wins, losses, roundActive, true);
+	}
+
+	/**
+	 * @return the sequence number of this snapshot
+	 */
+	public long getVersion() {
+		return version;
+	}
+}
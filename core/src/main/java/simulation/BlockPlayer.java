@@ -0,0 +1,124 @@
+package simulation;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import model.Card;
+import model.Deck;
+import model.GameModel;
+import model.HumanPlayer;
+import model.PlayerAction;
+import model.SideBet;
+
+/**
+ * Plays the rounds of one block: a headless table whose shoe is shuffled by a
+ * generator seeded from (seed, block). Every seat also stakes one unit on each
+ * side bet, settled right after the deal. Shared by in-process workers and
+ * worker processes, so a block gives the same totals wherever it is played.
+ * The table records no latencies in Metrics.
+ */
+final class BlockPlayer {
+
+	private static final SideBet[] SIDE_BETS = SideBet.values();
+
+	// A BlockPlayer has-a configuration
+	private final SimulationConfig config;
+	// A BlockPlayer has-a generator, shoe and table for its block
+	private final SplitMixRandom random;
+	private final Deck deck;
+	private final GameModel table;
+
+	/**
+	 * Starts a block from a fresh shoe.
+	 *
+	 * @param config the run
+	 * @param block  the block index
+	 */
+	BlockPlayer(SimulationConfig config, long block) {
+		this.config = config;
+		random = new SplitMixRandom(SplitMixRandom.blockSeed(config.getSeed(), block));
+		deck = new Deck(config.getDeckCount(), random);
+		deck.resetDeck();
+		table = new GameModel(config.getSeatCount(), deck, null);
+		table.setTimed(false);
+	}
+
+	/**
+	 * Continues a block from state written by writeState.
+	 *
+	 * @param config the run
+	 * @param state  the buffer to read from
+	 */
+	BlockPlayer(SimulationConfig config, ByteBuffer state) {
+		this.config = config;
+		random = new SplitMixRandom(0);
+		deck = new Deck(config.getDeckCount(), random);
+		random.setState(state.getLong());
+		deck.readState(state);
+		table = new GameModel(config.getSeatCount(), deck, null);
+		table.setTimed(false);
+	}
+
+	/**
+	 * Plays every round of a block.
+	 *
+	 * @param config the run
+	 * @param block  the block index
+	 * @param stats  the totals to add the block's hands to
+	 */
+	static void playBlock(SimulationConfig config, long block, SimulationStats stats) {
+		BlockPlayer player = new BlockPlayer(config, block);
+		int rounds = config.getBlockRounds(block);
+		for (int i = 0; i < rounds; i++) {
+			player.playRound(stats);
+		}
+	}
+
+	/**
+	 * @param config the run
+	 * @return the most bytes writeState needs
+	 */
+	static int stateSize(SimulationConfig config) {
+		return 8 + new Deck(config.getDeckCount()).getStateSize();
+	}
+
+	/**
+	 * Writes the generator state and the undealt shoe. Only valid between
+	 * rounds.
+	 *
+	 * @param buffer the buffer to write to
+	 */
+	void writeState(ByteBuffer buffer) {
+		buffer.putLong(random.getState());
+		deck.writeState(buffer);
+	}
+
+	/**
+	 * Plays one round with the configured strategy and counts its hands.
+	 *
+	 * @param stats the totals to add to
+	 */
+	void playRound(SimulationStats stats) {
+		table.startNewRound();
+		Card upCard = table.getDealerHand().get(0);
+		for (int i = 0; i < table.getSeatCount(); i++) {
+			List<Card> hand = table.getSeat(i).getHand();
+			for (SideBet bet : SIDE_BETS) {
+				stats.recordSideBet(bet, bet.settle(hand.get(0), hand.get(1), upCard));
+			}
+		}
+		Strategy strategy = config.getStrategy();
+		for (int seat = table.getActiveSeat(); seat >= 0; seat = table.getActiveSeat()) {
+			if (strategy.decide(table.getSeat(seat), upCard) == PlayerAction.HIT) {
+				table.playerHits(seat);
+			} else {
+				table.playerStands(seat);
+			}
+		}
+		for (int i = 0; i < table.getSeatCount(); i++) {
+			HumanPlayer player = table.getSeat(i);
+			int total = player.calculateHandValue();
+			stats.record(table.getSeatResult(i), player.getHand().size() == 2 && total == 21, total > 21);
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package simulation;
+
+/**
+ * Immutable running estimate of a simulation's result, published by a
+ * ConvergenceTracker each time its contiguous prefix of finished blocks
+ * grows.
+ */
+public final class ConvergenceEstimate {
+
+	// Blocks 0 .. blocks-1 are included
+	private final long blocks;
+	// A ConvergenceEstimate has-a copy of the prefix totals
+	private final SimulationStats stats;
+	// Normal quantile of the confidence level
+	private final double z;
+	// True if the precision target was met at this prefix
+	private final boolean converged;
+
+	ConvergenceEstimate(long blocks, SimulationStats stats, double z, boolean converged) {
+		this.blocks = blocks;
+		this.stats = stats;
+		this.z = z;
+		this.converged = converged;
+	}
+
+	/**
+	 * @return number of leading blocks the estimate covers
+	 */
+	public long getBlocks() {
+		return blocks;
+	}
+
+	/**
+	 * @return the totals of those blocks; do not modify
+	 */
+	public SimulationStats getStats() {
+		return stats;
+	}
+
+	/**
+	 * @return mean units won per hand
+	 */
+	public double getExpectedValue() {
+		return stats.getExpectedValue();
+	}
+
+	/**
+	 * @return sample variance of units won per hand
+	 */
+	public double getVariance() {
+		return stats.getVariance();
+	}
+
+	/**
+	 * @return standard error of the expected value
+	 */
+	public double getStandardError() {
+		return stats.getStandardError();
+	}
+
+	/**
+	 * @return lower end of the confidence interval
+	 */
+	public double getLow() {
+		return stats.getExpectedValue() - stats.getConfidenceHalfWidth(z);
+	}
+
+	/**
+	 * @return upper end of the confidence interval
+	 */
+	public double getHigh() {
+		return stats.getExpectedValue() + stats.getConfidenceHalfWidth(z);
+	}
+
+	/**
+	 * @return true if the precision target was reached
+	 */
+	public boolean isConverged() {
+		return converged;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("blocks=%d hands=%d ev=%+.5f se=%.5f ci=[%+.5f, %+.5f]%s", blocks, stats.getHands(),
+				getExpectedValue(), getStandardError(), getLow(), getHigh(), converged ? " converged" : "");
+	}
+}
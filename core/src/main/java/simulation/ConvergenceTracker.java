@@ -0,0 +1,174 @@
+package simulation;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Streams the running EV, variance, standard error and confidence interval of
+ * a simulation, and decides when it has reached a precision target.
+ *
+ * Blocks finish in any order, but estimates are only ever taken over the
+ * contiguous prefix of finished blocks 0 .. k-1, and the target is checked at
+ * every prefix length in turn. The run therefore stops at the same block, with
+ * the same totals, however many workers or processes play it.
+ *
+ * Reports arrive once per block, so a plain lock is cheap here.
+ */
+public class ConvergenceTracker {
+
+	/**
+	 * Normal quantile for a 95% confidence interval.
+	 */
+	public static final double Z_95 = 1.959963984540054;
+
+	// Confidence half-width to stop at; 0 never stops
+	private final double targetHalfWidth;
+	// Normal quantile of the confidence level
+	private final double z;
+	// Hands needed before the target is trusted
+	private final long minHands;
+	// Number of leading blocks folded into prefix
+	private long prefixBlocks = 0;
+	// Totals of blocks 0 .. prefixBlocks-1
+	private final SimulationStats prefix = new SimulationStats();
+	// Finished blocks waiting for a gap before them to fill
+	private final Map<Long, SimulationStats> waiting = new HashMap<>();
+	// Latest estimate
+	private volatile ConvergenceEstimate estimate;
+	// Called with every new estimate, or null
+	private volatile Consumer<ConvergenceEstimate> listener;
+
+	/**
+	 * Creates a tracker that reports estimates but never stops a run.
+	 */
+	public ConvergenceTracker() {
+		this(0.0, Z_95, 0);
+	}
+
+	/**
+	 * @param targetHalfWidth confidence half-width of the EV to stop at, in
+	 *                        units per hand; 0 to never stop
+	 * @param z               normal quantile of the confidence level, e.g. Z_95
+	 * @param minHands        hands needed before the target is checked
+	 */
+	public ConvergenceTracker(double targetHalfWidth, double z, long minHands) {
+		this.targetHalfWidth = targetHalfWidth;
+		this.z = z;
+		this.minHands = minHands;
+		estimate = new ConvergenceEstimate(0, new SimulationStats(), z, false);
+	}
+
+	/**
+	 * @param listener called with every new estimate, on the thread that
+	 *                 finished the block; keep it short
+	 */
+	public void setListener(Consumer<ConvergenceEstimate> listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * @return the latest estimate
+	 */
+	public ConvergenceEstimate getEstimate() {
+		return estimate;
+	}
+
+	/**
+	 * @return true once the precision target has been reached
+	 */
+	public boolean isConverged() {
+		return estimate.isConverged();
+	}
+
+	/**
+	 * Reports a finished block. Reports of blocks already counted are ignored,
+	 * so a block replayed after a restart is harmless.
+	 *
+	 * @param block the block index
+	 * @param stats the block's totals; copied
+	 */
+	public void blockFinished(long block, SimulationStats stats) {
+		ConvergenceEstimate published = null;
+		synchronized (this) {
+			if (estimate.isConverged() || block < prefixBlocks || waiting.containsKey(block)) {
+				return;
+			}
+			waiting.put(block, stats.copy());
+			boolean converged = false;
+			SimulationStats next;
+			while (!converged && (next = waiting.remove(prefixBlocks)) != null) {
+				prefix.add(next);
+				prefixBlocks++;
+				converged = targetHalfWidth > 0 && prefix.getHands() >= minHands
+						&& prefix.getConfidenceHalfWidth(z) <= targetHalfWidth;
+			}
+			if (prefixBlocks != estimate.getBlocks()) {
+				published = new ConvergenceEstimate(prefixBlocks, prefix.copy(), z, converged);
+				estimate = published;
+				if (converged) {
+					waiting.clear();
+				}
+			}
+		}
+		Consumer<ConvergenceEstimate> l = listener;
+		if (published != null && l != null) {
+			l.accept(published);
+		}
+	}
+
+	/**
+	 * @return the most bytes writeTo needs for the blocks now waiting
+	 */
+	synchronized int getEncodedSize() {
+		return 8 + SimulationStats.ENCODED_SIZE + 4 + waiting.size() * (8 + SimulationStats.ENCODED_SIZE);
+	}
+
+	/**
+	 * Writes the prefix and the blocks waiting behind a gap.
+	 *
+	 * @param buffer the buffer to write to
+	 */
+	synchronized void writeTo(ByteBuffer buffer) {
+		buffer.putLong(prefixBlocks);
+		prefix.writeTo(buffer);
+		buffer.putInt(waiting.size());
+		for (Map.Entry<Long, SimulationStats> entry : waiting.entrySet()) {
+			buffer.putLong(entry.getKey());
+			entry.getValue().writeTo(buffer);
+		}
+	}
+
+	/**
+	 * Restores state written by writeTo, re-checking the target block by block
+	 * from the restored prefix on.
+	 *
+	 * @param buffer the buffer to read from
+	 */
+	void readFrom(ByteBuffer buffer) {
+		long blocks = buffer.getLong();
+		SimulationStats restored = new SimulationStats();
+		restored.readFrom(buffer);
+		int count = buffer.getInt();
+		Map<Long, SimulationStats> pending = new HashMap<>();
+		for (int i = 0; i < count; i++) {
+			long block = buffer.getLong();
+			SimulationStats stats = new SimulationStats();
+			stats.readFrom(buffer);
+			pending.put(block, stats);
+		}
+		synchronized (this) {
+			prefixBlocks = blocks;
+			prefix.clear();
+			prefix.add(restored);
+			waiting.clear();
+			boolean converged = targetHalfWidth > 0 && prefix.getHands() >= minHands
+					&& prefix.getConfidenceHalfWidth(z) <= targetHalfWidth;
+			estimate = new ConvergenceEstimate(prefixBlocks, prefix.copy(), z, converged);
+		}
+		for (Map.Entry<Long, SimulationStats> entry : pending.entrySet()) {
+			blockFinished(entry.getKey(), entry.getValue());
+		}
+	}
+}
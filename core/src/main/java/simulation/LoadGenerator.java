@@ -0,0 +1,291 @@
+package simulation;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import leaderboard.Leaderboard;
+import leaderboard.PlayerRecord;
+import metrics.LatencyHistogram;
+import model.Deck;
+import model.GameModel;
+import model.PlayerAction;
+
+/**
+ * Drives a large number of concurrent player sessions, each with its own
+ * single-seat GameModel and shoe, to size hardware for concurrent tables.
+ *
+ * A session is a small state machine: each step deals a new round or makes
+ * one hit/stand decision with its strategy, then waits a random think time.
+ * On a runtime with virtual threads every session runs as a plain loop on its
+ * own virtual thread, sleeping between steps. On older runtimes the same
+ * steps are scheduled on one platform thread per core instead, since a
+ * platform thread per session does not scale to this many sessions.
+ *
+ * The report gives step throughput, scheduling latency (how late each step
+ * ran compared to the end of its think time) and the heap retained per idle
+ * session.
+ */
+public class LoadGenerator {
+
+	/**
+	 * How sessions are run.
+	 */
+	public enum Mode {
+		// Virtual threads when the runtime has them, otherwise SCHEDULED
+		AUTO,
+		// One virtual thread per session
+		VIRTUAL,
+		// Steps scheduled on one platform thread per core
+		SCHEDULED;
+	}
+
+	// A LoadGenerator has-a number of sessions
+	private final int sessionCount;
+	// Think time between steps, drawn uniformly from [min, max] milliseconds
+	private final int thinkMinMillis;
+	private final int thinkMaxMillis;
+	// Decks per session shoe
+	private final int deckCount;
+	// A LoadGenerator has-a strategy shared by every session
+	private final Strategy strategy;
+	// A LoadGenerator has-many sessions
+	private Session[] sessions;
+	// Lateness of each step after its think time
+	private final LatencyHistogram schedulingLatency = new LatencyHistogram("load_scheduling_latency",
+			"Delay between the end of a think time and the step running");
+	// Cleared to make sessions stop after their current step
+	private volatile boolean running;
+	// A LoadGenerator has-a leaderboard every session reports to, or null
+	private Leaderboard leaderboard;
+
+	/**
+	 * @param sessionCount   number of concurrent sessions
+	 * @param thinkMinMillis shortest think time between steps
+	 * @param thinkMaxMillis longest think time between steps
+	 * @param deckCount      decks per session shoe
+	 * @param strategy       decides every hit or stand
+	 */
+	public LoadGenerator(int sessionCount, int thinkMinMillis, int thinkMaxMillis, int deckCount, Strategy strategy) {
+		if (sessionCount < 1) {
+			throw new IllegalArgumentException("Session count must be positive: " + sessionCount);
+		}
+		if (thinkMinMillis < 0 || thinkMaxMillis < thinkMinMillis) {
+			throw new IllegalArgumentException("Bad think time range: " + thinkMinMillis + ".." + thinkMaxMillis);
+		}
+		this.sessionCount = sessionCount;
+		this.thinkMinMillis = thinkMinMillis;
+		this.thinkMaxMillis = thinkMaxMillis;
+		this.deckCount = deckCount;
+		this.strategy = strategy;
+	}
+
+	/**
+	 * Makes every session report its hands to a shared leaderboard, as player
+	 * "session-N". Call before run().
+	 *
+	 * @param leaderboard the leaderboard, or null for none
+	 */
+	public void setLeaderboard(Leaderboard leaderboard) {
+		this.leaderboard = leaderboard;
+	}
+
+	/**
+	 * Creates every session, measuring the heap they retain, runs them for
+	 * the given time and reports the result.
+	 *
+	 * @param mode           how to run the sessions
+	 * @param durationMillis how long to run
+	 * @return the result of the run
+	 * @throws InterruptedException if interrupted while running
+	 */
+	public LoadReport run(Mode mode, long durationMillis) throws InterruptedException {
+		ExecutorService virtualThreads = mode == Mode.SCHEDULED ? null : newVirtualThreadExecutor();
+		if (mode == Mode.VIRTUAL && virtualThreads == null) {
+			throw new IllegalStateException("This runtime has no virtual threads");
+		}
+
+		long heapBefore = usedHeap();
+		sessions = new Session[sessionCount];
+		for (int i = 0; i < sessionCount; i++) {
+			sessions[i] = new Session(i);
+		}
+		long heapPerSession = (usedHeap() - heapBefore) / sessionCount;
+
+		running = true;
+		long start = System.nanoTime();
+		ScheduledExecutorService scheduler = null;
+		if (virtualThreads != null) {
+			for (Session session : sessions) {
+				virtualThreads.execute(session::loop);
+			}
+		} else {
+			scheduler = Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+				Thread t = new Thread(r, "load-session");
+				t.setDaemon(true);
+				return t;
+			});
+			for (Session session : sessions) {
+				session.schedule(scheduler);
+			}
+		}
+		Thread.sleep(durationMillis);
+		running = false;
+		ExecutorService executor = virtualThreads != null ? virtualThreads : scheduler;
+		// drop pending think times, so no step runs after the measurement
+		executor.shutdownNow();
+		executor.awaitTermination(10_000L, TimeUnit.MILLISECONDS);
+		long elapsed = System.nanoTime() - start;
+
+		long steps = 0;
+		long rounds = 0;
+		for (Session session : sessions) {
+			steps += session.steps;
+			rounds += session.rounds;
+		}
+		return new LoadReport(virtualThreads != null ? Mode.VIRTUAL : Mode.SCHEDULED, sessionCount, elapsed, steps,
+				rounds, schedulingLatency, heapPerSession);
+	}
+
+	/**
+	 * @return an executor starting a virtual thread per task, or null if the
+	 *         runtime has no virtual threads
+	 */
+	static ExecutorService newVirtualThreadExecutor() {
+		try {
+			Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) factory.invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return null;
+		}
+	}
+
+	// Helper: heap in use after a full collection
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * One simulated player at its own table.
+	 */
+	private final class Session implements Runnable {
+
+		// A Session has-a generator for its shoe and think times
+		private final SplitMixRandom random;
+		// A Session has-a table
+		private final GameModel table;
+		// When the current think time ends, in System.nanoTime() units
+		private long dueNanos;
+		// Steps and rounds played; read only after the run has stopped
+		private long steps;
+		private long rounds;
+		// Scheduler running this session in SCHEDULED mode
+		private ScheduledExecutorService scheduler;
+
+		Session(int id) {
+			random = new SplitMixRandom(SplitMixRandom.blockSeed(ThreadLocalRandom.current().nextLong(), id));
+			Deck deck = new Deck(deckCount, random);
+			deck.resetDeck();
+			table = new GameModel(1, deck, null);
+			if (leaderboard != null) {
+				table.setLeaderboard(leaderboard, "session-" + id);
+			}
+		}
+
+		// Helper: play steps on the current (virtual) thread until stopped
+		void loop() {
+			try {
+				while (running) {
+					long think = thinkNanos();
+					dueNanos = System.nanoTime() + think;
+					TimeUnit.NANOSECONDS.sleep(think);
+					if (!running) {
+						break;
+					}
+					schedulingLatency.recordSince(dueNanos);
+					step();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		// Helper: schedule the first step after a random think time
+		void schedule(ScheduledExecutorService scheduler) {
+			this.scheduler = scheduler;
+			scheduleNext();
+		}
+
+		@Override
+		public void run() {
+			schedulingLatency.recordSince(dueNanos);
+			step();
+			if (running) {
+				scheduleNext();
+			}
+		}
+
+		// Helper: run again after a think time
+		private void scheduleNext() {
+			long think = thinkNanos();
+			dueNanos = System.nanoTime() + think;
+			scheduler.schedule(this, think, TimeUnit.NANOSECONDS);
+		}
+
+		// Helper: deal a new round or make the next decision
+		private void step() {
+			int seat = table.getActiveSeat();
+			if (!table.isRoundActive() || seat < 0) {
+				table.startNewRound();
+				rounds++;
+			} else if (strategy.decide(table.getSeat(seat), table.getDealerUpCard()) == PlayerAction.HIT) {
+				table.playerHits(seat);
+			} else {
+				table.playerStands(seat);
+			}
+			steps++;
+		}
+
+		// Helper: a uniform think time in nanoseconds
+		private long thinkNanos() {
+			long span = (thinkMaxMillis - thinkMinMillis + 1) * 1_000_000L;
+			return thinkMinMillis * 1_000_000L + (random.nextLong() >>> 1) % span;
+		}
+	}
+
+	/**
+	 * Runs the generator and prints its report.
+	 *
+	 * @param args sessions [seconds] [think-min-ms] [think-max-ms] [strategy]
+	 *             [auto|virtual|scheduled]
+	 * @throws Exception if the run fails
+	 */
+	public static void main(String[] args) throws Exception {
+		if (args.length < 1) {
+			System.err.println(
+					"Usage: LoadGenerator sessions [seconds] [think-min-ms] [think-max-ms] [strategy] [auto|virtual|scheduled]");
+			System.exit(2);
+		}
+		int sessions = Integer.parseInt(args[0]);
+		long seconds = args.length > 1 ? Long.parseLong(args[1]) : 30;
+		int thinkMin = args.length > 2 ? Integer.parseInt(args[2]) : 500;
+		int thinkMax = args.length > 3 ? Integer.parseInt(args[3]) : 2000;
+		Strategy strategy = args.length > 4 ? Strategies.forName(args[4]) : ThresholdStrategy.MIMIC_DEALER;
+		Mode mode = args.length > 5 ? Mode.valueOf(args[5].toUpperCase()) : Mode.AUTO;
+		LoadGenerator generator = new LoadGenerator(sessions, thinkMin, thinkMax, GameModel.MULTI_SEAT_DECKS,
+				strategy);
+		Leaderboard leaderboard = new Leaderboard();
+		generator.setLeaderboard(leaderboard);
+		System.out.println(generator.run(mode, seconds * 1000));
+		for (PlayerRecord record : leaderboard.getTop(3)) {
+			System.out.println(record);
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package simulation;
+
+import metrics.LatencyHistogram;
+
+/**
+ * Immutable result of a LoadGenerator run.
+ */
+public final class LoadReport {
+
+	// How the sessions were run
+	private final LoadGenerator.Mode mode;
+	// Number of concurrent sessions
+	private final int sessions;
+	// Wall time of the run, in nanoseconds
+	private final long elapsedNanos;
+	// Steps (deals and decisions) and rounds played by all sessions
+	private final long steps;
+	private final long rounds;
+	// A LoadReport has-a histogram of step lateness
+	private final LatencyHistogram schedulingLatency;
+	// Heap retained per idle session, in bytes
+	private final long heapPerSession;
+
+	LoadReport(LoadGenerator.Mode mode, int sessions, long elapsedNanos, long steps, long rounds,
+			LatencyHistogram schedulingLatency, long heapPerSession) {
+		this.mode = mode;
+		this.sessions = sessions;
+		this.elapsedNanos = elapsedNanos;
+		this.steps = steps;
+		this.rounds = rounds;
+		this.schedulingLatency = schedulingLatency;
+		this.heapPerSession = heapPerSession;
+	}
+
+	/**
+	 * @return the mode the sessions actually ran in
+	 */
+	public LoadGenerator.Mode getMode() {
+		return mode;
+	}
+
+	/**
+	 * @return number of concurrent sessions
+	 */
+	public int getSessions() {
+		return sessions;
+	}
+
+	/**
+	 * @return steps per second over all sessions
+	 */
+	public double getStepsPerSecond() {
+		return steps / (elapsedNanos / 1e9);
+	}
+
+	/**
+	 * @return rounds per second over all sessions
+	 */
+	public double getRoundsPerSecond() {
+		return rounds / (elapsedNanos / 1e9);
+	}
+
+	/**
+	 * @return histogram of how late steps ran after their think time
+	 */
+	public LatencyHistogram getSchedulingLatency() {
+		return schedulingLatency;
+	}
+
+	/**
+	 * @return heap retained per idle session, in bytes
+	 */
+	public long getHeapPerSession() {
+		return heapPerSession;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				"mode=%s sessions=%d seconds=%.1f steps/s=%.0f rounds/s=%.0f"
+						+ " lateness p50=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms heap/session=%d B",
+				mode.name().toLowerCase(), sessions, elapsedNanos / 1e9, getStepsPerSecond(), getRoundsPerSecond(),
+				millis(schedulingLatency.getValueAtPercentile(50)), millis(schedulingLatency.getValueAtPercentile(99)),
+				millis(schedulingLatency.getValueAtPercentile(99.9)), millis(schedulingLatency.getMax()),
+				heapPerSession);
+	}
+
+	// Helper: nanoseconds as milliseconds
+	private static double millis(long nanos) {
+		return nanos / 1e6;
+	}
+}
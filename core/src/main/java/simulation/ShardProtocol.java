@@ -0,0 +1,21 @@
+package simulation;
+
+/**
+ * Message tags of the coordinator/worker protocol. Every message is a tag
+ * byte followed by its fields, written with DataOutputStream:
+ *
+ * JOB: config length (int), config as written by SimulationConfig.writeTo.
+ * SHARD: shard index (int), first block (long), block count (int).
+ * RESULT: shard index (int), totals as written by SimulationStats.writeTo.
+ * DONE: no fields; the worker exits.
+ */
+final class ShardProtocol {
+
+	static final byte JOB = 1;
+	static final byte SHARD = 2;
+	static final byte RESULT = 3;
+	static final byte DONE = 4;
+
+	private ShardProtocol() {
+	}
+}
@@ -0,0 +1,414 @@
+package simulation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import model.GameModel;
+
+/**
+ * Runs a simulation on several worker threads, each playing its own headless
+ * GameModel, with periodic checkpoints so an interrupted run can be resumed.
+ *
+ * Worker w plays blocks w, w + workers, w + 2 * workers, ... Every few
+ * thousand rounds a worker encodes its whole state (position in the run, its
+ * totals, its generator state and the order of its remaining shoe) into a
+ * fresh byte array and publishes it with a single reference write. A
+ * background thread periodically writes the latest published state of every
+ * worker to the checkpoint file, so workers never wait on the disk. Because
+ * each worker's state is self-contained, the file is always consistent, and a
+ * resumed run replays from the last checkpoint exactly as the original would
+ * have continued: the final totals are identical to an uninterrupted run.
+ *
+ * The checkpoint is written to a temporary file and then renamed over the old
+ * one, so a crash during a write leaves the previous checkpoint intact.
+ *
+ * Every finished block is also reported to a ConvergenceTracker, which streams
+ * running estimates and, given a precision target, stops the run early. A run
+ * stopped that way returns the totals of the blocks before the stopping
+ * point, which are the same for any number of workers.
+ */
+public class Simulation {
+
+	/**
+	 * Rounds between state publications by a worker.
+	 */
+	public static final int PUBLISH_INTERVAL_ROUNDS = 1 << 14;
+
+	/**
+	 * Time between checkpoint writes unless configured otherwise.
+	 */
+	public static final long DEFAULT_CHECKPOINT_INTERVAL_MS = 10_000;
+
+	private static final int MAGIC = 0x424A534D; // "BJSM"
+	private static final int FORMAT_VERSION = 3;
+
+	// A Simulation has-a configuration
+	private final SimulationConfig config;
+	// Number of workers; taken from the checkpoint when resuming
+	private int workerCount;
+	// Checkpoint file, or null to run without checkpoints
+	private final Path checkpoint;
+	// Time between checkpoint writes
+	private final long checkpointIntervalMillis;
+	// A Simulation has-many workers
+	private Worker[] workers;
+	// Latest state published by each worker
+	private AtomicReferenceArray<byte[]> published;
+	// Set to make workers stop at the next round boundary
+	private volatile boolean stopRequested = false;
+	// A Simulation has-a convergence tracker fed every finished block
+	private ConvergenceTracker convergence = new ConvergenceTracker();
+
+	/**
+	 * Creates a simulation that checkpoints to the given file. If the file
+	 * exists, run() resumes from it, with the worker count it was written
+	 * with.
+	 *
+	 * @param config                   the run to simulate
+	 * @param workerCount              number of worker threads for a new run
+	 * @param checkpoint               the checkpoint file, or null for none
+	 * @param checkpointIntervalMillis time between checkpoint writes
+	 */
+	public Simulation(SimulationConfig config, int workerCount, Path checkpoint, long checkpointIntervalMillis) {
+		if (workerCount < 1) {
+			throw new IllegalArgumentException("Worker count must be positive: " + workerCount);
+		}
+		this.config = config;
+		this.workerCount = workerCount;
+		this.checkpoint = checkpoint;
+		this.checkpointIntervalMillis = checkpointIntervalMillis;
+	}
+
+	/**
+	 * Replaces the default tracker, which reports estimates but never stops
+	 * the run. Call before run().
+	 *
+	 * @param convergence the tracker to feed finished blocks
+	 */
+	public void setConvergenceTracker(ConvergenceTracker convergence) {
+		this.convergence = convergence;
+	}
+
+	/**
+	 * @return the tracker fed every finished block
+	 */
+	public ConvergenceTracker getConvergenceTracker() {
+		return convergence;
+	}
+
+	/**
+	 * Runs (or resumes) the simulation until every round is played, the
+	 * precision target is reached, or stop() is called, then writes a final
+	 * checkpoint.
+	 *
+	 * @return the totals over every round played so far, or over the blocks
+	 *         before the stopping point if the run converged
+	 * @throws IOException if the checkpoint cannot be read or the final
+	 *                     checkpoint cannot be written
+	 * @throws InterruptedException if interrupted while waiting for workers
+	 */
+	public SimulationStats run() throws IOException, InterruptedException {
+		ByteBuffer resumeFrom = checkpoint != null && Files.exists(checkpoint) ? readCheckpoint() : null;
+		workers = new Worker[workerCount];
+		published = new AtomicReferenceArray<>(workerCount);
+		for (int i = 0; i < workerCount; i++) {
+			workers[i] = new Worker(i);
+			if (resumeFrom != null) {
+				byte[] state = new byte[resumeFrom.getInt()];
+				resumeFrom.get(state);
+				workers[i].restore(ByteBuffer.wrap(state));
+			}
+			workers[i].publish();
+		}
+		if (resumeFrom != null) {
+			convergence.readFrom(resumeFrom);
+		}
+
+		ScheduledExecutorService writer = null;
+		if (checkpoint != null) {
+			writer = Executors.newSingleThreadScheduledExecutor(r -> {
+				Thread t = new Thread(r, "checkpoint-writer");
+				t.setDaemon(true);
+				return t;
+			});
+			writer.scheduleWithFixedDelay(this::writeCheckpointQuietly, checkpointIntervalMillis,
+					checkpointIntervalMillis, TimeUnit.MILLISECONDS);
+		}
+		ExecutorService pool = Executors.newFixedThreadPool(workerCount);
+		try {
+			List<Future<?>> running = new ArrayList<>();
+			for (Worker worker : workers) {
+				running.add(pool.submit(worker));
+			}
+			for (Future<?> future : running) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					stopRequested = true;
+					throw new IllegalStateException("Simulation worker failed", e.getCause());
+				}
+			}
+		} finally {
+			pool.shutdown();
+			if (writer != null) {
+				writer.shutdown();
+				writer.awaitTermination(1, TimeUnit.MINUTES);
+				writeCheckpoint();
+			}
+		}
+
+		if (convergence.isConverged()) {
+			return convergence.getEstimate().getStats().copy();
+		}
+		SimulationStats total = new SimulationStats();
+		for (Worker worker : workers) {
+			total.add(worker.stats);
+			total.add(worker.blockStats);
+		}
+		return total;
+	}
+
+	/**
+	 * Asks the workers to stop at their next round boundary; run() then writes
+	 * a final checkpoint and returns the totals so far.
+	 */
+	public void stop() {
+		stopRequested = true;
+	}
+
+	/**
+	 * @return true once every round of the run has been played or the
+	 *         precision target has been reached
+	 */
+	public boolean isComplete() {
+		if (convergence.isConverged()) {
+			return true;
+		}
+		if (workers == null) {
+			return false;
+		}
+		for (Worker worker : workers) {
+			if (worker.block < config.getBlockCount()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// Helper: load a checkpoint, leaving the buffer at the first worker state
+	private ByteBuffer readCheckpoint() throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(checkpoint));
+		try {
+			if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+				throw new IOException("Not a simulation checkpoint: " + checkpoint);
+			}
+			if (!config.matches(buffer)) {
+				throw new IOException("Checkpoint " + checkpoint + " belongs to a different run");
+			}
+			workerCount = buffer.getInt();
+		} catch (RuntimeException e) {
+			throw new IOException("Corrupt simulation checkpoint: " + checkpoint, e);
+		}
+		return buffer;
+	}
+
+	// Helper: periodic checkpoint; a failed write is retried at the next one
+	private void writeCheckpointQuietly() {
+		try {
+			writeCheckpoint();
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	// Helper: write the latest state of every worker and swap it into place
+	private synchronized void writeCheckpoint() throws IOException {
+		byte[][] states = new byte[workerCount][];
+		int size = 4 + 4 + config.getEncodedSize() + 4;
+		for (int i = 0; i < workerCount; i++) {
+			states[i] = published.get(i);
+			size += 4 + states[i].length;
+		}
+		// Workers report a block before publishing the state that follows it,
+		// so reading the tracker after the states never misses a block they
+		// count as done; blocks it has seen twice are ignored on resume.
+		ByteBuffer tracker;
+		synchronized (convergence) {
+			tracker = ByteBuffer.allocate(convergence.getEncodedSize());
+			convergence.writeTo(tracker);
+		}
+		size += tracker.capacity();
+		ByteBuffer buffer = ByteBuffer.allocate(size);
+		buffer.putInt(MAGIC);
+		buffer.putInt(FORMAT_VERSION);
+		config.writeTo(buffer);
+		buffer.putInt(workerCount);
+		for (byte[] state : states) {
+			buffer.putInt(state.length);
+			buffer.put(state);
+		}
+		buffer.put(tracker.array());
+		buffer.flip();
+
+		Path temp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+		try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			channel.force(false);
+		}
+		Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * One worker thread's share of the run. Only the worker's own thread
+	 * touches its fields while it runs.
+	 */
+	private final class Worker implements Runnable {
+
+		// A Worker has-an index, which fixes the blocks it plays
+		private final int id;
+		// Block being played, or the next one to start
+		private long block;
+		// Rounds of the current block already played
+		private int roundInBlock = 0;
+		// A Worker has-a set of totals over the blocks it has finished
+		private final SimulationStats stats = new SimulationStats();
+		// A Worker has-a set of totals over the current block so far
+		private final SimulationStats blockStats = new SimulationStats();
+		// A Worker has-a player for the current block, or null between blocks
+		private BlockPlayer player;
+		// Reused buffer for encoding this worker's state
+		private final ByteBuffer stateBuffer;
+
+		Worker(int id) {
+			this.id = id;
+			this.block = id;
+			stateBuffer = ByteBuffer
+					.allocate(8 + 4 + 2 * SimulationStats.ENCODED_SIZE + 1 + BlockPlayer.stateSize(config));
+		}
+
+		@Override
+		public void run() {
+			long blockCount = config.getBlockCount();
+			while (block < blockCount && !stopRequested && !convergence.isConverged()) {
+				if (player == null) {
+					player = new BlockPlayer(config, block);
+				}
+				int blockRounds = config.getBlockRounds(block);
+				while (roundInBlock < blockRounds && !stopRequested && !convergence.isConverged()) {
+					player.playRound(blockStats);
+					roundInBlock++;
+					if (roundInBlock % PUBLISH_INTERVAL_ROUNDS == 0) {
+						publish();
+					}
+				}
+				if (roundInBlock == blockRounds) {
+					convergence.blockFinished(block, blockStats);
+					stats.add(blockStats);
+					blockStats.clear();
+					block += workerCount;
+					roundInBlock = 0;
+					player = null;
+				}
+			}
+			publish();
+		}
+
+		// Helper: encode the current state and make it visible to the writer
+		void publish() {
+			stateBuffer.clear();
+			stateBuffer.putLong(block);
+			stateBuffer.putInt(roundInBlock);
+			stats.writeTo(stateBuffer);
+			blockStats.writeTo(stateBuffer);
+			if (player == null) {
+				stateBuffer.put((byte) 0);
+			} else {
+				stateBuffer.put((byte) 1);
+				player.writeState(stateBuffer);
+			}
+			published.set(id, Arrays.copyOf(stateBuffer.array(), stateBuffer.position()));
+		}
+
+		// Helper: continue from a state written by publish
+		void restore(ByteBuffer state) {
+			block = state.getLong();
+			roundInBlock = state.getInt();
+			stats.readFrom(state);
+			blockStats.readFrom(state);
+			if (state.get() != 0) {
+				player = new BlockPlayer(config, state);
+			}
+		}
+	}
+
+	/**
+	 * Runs a simulation from the command line, playing every seat with the
+	 * dealer's own rules.
+	 *
+	 * Usage: Simulation rounds [workers] [checkpoint-file] [seed]
+	 * [target-half-width] [progress-seconds]
+	 *
+	 * With a target, the run stops once the 95% confidence interval of the EV
+	 * is within that many units per hand either side. A checkpoint file of "-"
+	 * runs without checkpoints. The final estimate is always printed; with
+	 * progress-seconds above 0, the running estimate is also printed at most
+	 * that often.
+	 *
+	 * @param args command line arguments
+	 * @throws Exception if the run fails
+	 */
+	public static void main(String[] args) throws Exception {
+		if (args.length < 1) {
+			System.err.println(
+					"Usage: Simulation rounds [workers] [checkpoint-file] [seed] [target-half-width] [progress-seconds]");
+			System.exit(2);
+		}
+		long rounds = Long.parseLong(args[0]);
+		int workerCount = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+		Path checkpoint = args.length > 2 && !args[2].equals("-") ? Paths.get(args[2]) : null;
+		long seed = args.length > 3 ? Long.parseLong(args[3]) : 1L;
+		SimulationConfig config = new SimulationConfig(rounds, seed, GameModel.MULTI_SEAT_DECKS, 1,
+				SimulationConfig.DEFAULT_BLOCK_SIZE, ThresholdStrategy.MIMIC_DEALER);
+		Simulation simulation = new Simulation(config, workerCount, checkpoint, DEFAULT_CHECKPOINT_INTERVAL_MS);
+		double target = args.length > 4 ? Double.parseDouble(args[4]) : 0.0;
+		long progressNanos = args.length > 5 ? (long) (Double.parseDouble(args[5]) * 1e9) : 0;
+		ConvergenceTracker convergence = new ConvergenceTracker(target, ConvergenceTracker.Z_95, 0);
+		simulation.setConvergenceTracker(convergence);
+		long start = System.nanoTime();
+		if (progressNanos > 0) {
+			AtomicLong lastPrinted = new AtomicLong(start);
+			convergence.setListener(estimate -> {
+				long now = System.nanoTime();
+				long last = lastPrinted.get();
+				if (now - last >= progressNanos && lastPrinted.compareAndSet(last, now)) {
+					System.out.println(estimate);
+				}
+			});
+		}
+		SimulationStats stats = simulation.run();
+		System.out.println(convergence.getEstimate());
+		System.out.println(config);
+		System.out.println(stats);
+		System.out.printf("%.1f s%n", (System.nanoTime() - start) / 1e9);
+	}
+}
@@ -0,0 +1,189 @@
+package simulation;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import model.GameModel;
+
+/**
+ * Immutable description of a simulation run: how many rounds, at what table,
+ * with which strategy, from which seed.
+ *
+ * Rounds are played in fixed-size blocks. Each block starts from a fresh shoe
+ * shuffled by a generator seeded from (seed, block index), so a block's result
+ * depends only on the configuration and never on which worker or process
+ * played it.
+ */
+public final class SimulationConfig {
+
+	/**
+	 * Rounds per block unless configured otherwise.
+	 */
+	public static final int DEFAULT_BLOCK_SIZE = 1 << 16;
+
+	// Total rounds to play
+	private final long rounds;
+	// Seed the block seeds are derived from
+	private final long seed;
+	// Decks in each table's shoe
+	private final int deckCount;
+	// Seats at each table
+	private final int seatCount;
+	// Rounds per block
+	private final int blockSize;
+	// A SimulationConfig has-a strategy played by every seat
+	private final Strategy strategy;
+
+	/**
+	 * @param rounds    total rounds to play
+	 * @param seed      seed of the run
+	 * @param deckCount decks in each shoe
+	 * @param seatCount seats at each table, from 1 to GameModel.MAX_SEATS
+	 * @param blockSize rounds per block
+	 * @param strategy  the strategy every seat plays
+	 */
+	public SimulationConfig(long rounds, long seed, int deckCount, int seatCount, int blockSize, Strategy strategy) {
+		if (rounds < 0) {
+			throw new IllegalArgumentException("Rounds must not be negative: " + rounds);
+		}
+		if (deckCount < 1 || deckCount > Byte.MAX_VALUE) {
+			throw new IllegalArgumentException("Deck count must be between 1 and " + Byte.MAX_VALUE + ": " + deckCount);
+		}
+		if (seatCount < 1 || seatCount > GameModel.MAX_SEATS) {
+			throw new IllegalArgumentException(
+					"Seat count must be between 1 and " + GameModel.MAX_SEATS + ": " + seatCount);
+		}
+		if (blockSize < 1) {
+			throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+		}
+		this.rounds = rounds;
+		this.seed = seed;
+		this.deckCount = deckCount;
+		this.seatCount = seatCount;
+		this.blockSize = blockSize;
+		this.strategy = strategy;
+	}
+
+	/**
+	 * @return total rounds to play
+	 */
+	public long getRounds() {
+		return rounds;
+	}
+
+	/**
+	 * @return seed of the run
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * @return decks in each shoe
+	 */
+	public int getDeckCount() {
+		return deckCount;
+	}
+
+	/**
+	 * @return seats at each table
+	 */
+	public int getSeatCount() {
+		return seatCount;
+	}
+
+	/**
+	 * @return rounds per block
+	 */
+	public int getBlockSize() {
+		return blockSize;
+	}
+
+	/**
+	 * @return the strategy every seat plays
+	 */
+	public Strategy getStrategy() {
+		return strategy;
+	}
+
+	/**
+	 * @return the number of blocks, the last one possibly short
+	 */
+	public long getBlockCount() {
+		return (rounds + blockSize - 1) / blockSize;
+	}
+
+	/**
+	 * @param block a block index
+	 * @return the number of rounds in that block
+	 */
+	public int getBlockRounds(long block) {
+		return (int) Math.min(blockSize, rounds - block * blockSize);
+	}
+
+	/**
+	 * Writes the configuration, with the strategy by name.
+	 *
+	 * @param buffer the buffer to write to
+	 */
+	public void writeTo(ByteBuffer buffer) {
+		byte[] name = strategy.getName().getBytes(StandardCharsets.UTF_8);
+		buffer.putLong(rounds);
+		buffer.putLong(seed);
+		buffer.put((byte) deckCount);
+		buffer.put((byte) seatCount);
+		buffer.putInt(blockSize);
+		buffer.putShort((short) name.length);
+		buffer.put(name);
+	}
+
+	/**
+	 * Reads a configuration written by writeTo, looking its strategy up with
+	 * Strategies.forName.
+	 *
+	 * @param buffer the buffer to read from
+	 * @return the configuration
+	 */
+	public static SimulationConfig readFrom(ByteBuffer buffer) {
+		long rounds = buffer.getLong();
+		long seed = buffer.getLong();
+		int deckCount = buffer.get();
+		int seatCount = buffer.get();
+		int blockSize = buffer.getInt();
+		byte[] name = new byte[buffer.getShort()];
+		buffer.get(name);
+		return new SimulationConfig(rounds, seed, deckCount, seatCount, blockSize,
+				Strategies.forName(new String(name, StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * @return the number of bytes writeTo needs
+	 */
+	public int getEncodedSize() {
+		return 8 + 8 + 1 + 1 + 4 + 2 + strategy.getName().getBytes(StandardCharsets.UTF_8).length;
+	}
+
+	/**
+	 * Checks whether encoded configuration describes this run.
+	 *
+	 * @param buffer the buffer to read from; advanced past the configuration
+	 * @return true if every field and the strategy name match
+	 */
+	public boolean matches(ByteBuffer buffer) {
+		long otherRounds = buffer.getLong();
+		long otherSeed = buffer.getLong();
+		int otherDecks = buffer.get();
+		int otherSeats = buffer.get();
+		int otherBlockSize = buffer.getInt();
+		byte[] name = new byte[buffer.getShort()];
+		buffer.get(name);
+		return otherRounds == rounds && otherSeed == seed && otherDecks == deckCount && otherSeats == seatCount
+				&& otherBlockSize == blockSize && new String(name, StandardCharsets.UTF_8).equals(strategy.getName());
+	}
+
+	@Override
+	public String toString() {
+		return rounds + " rounds, seed " + seed + ", " + deckCount + " decks, " + seatCount + " seats, "
+				+ strategy.getName();
+	}
+}
@@ -0,0 +1,298 @@
+package simulation;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import model.GameModel;
+
+/**
+ * Splits a simulation into shards of consecutive blocks and farms them out to
+ * SimulationWorker processes over sockets, by default on loopback.
+ *
+ * Each connected worker is served by its own thread, which hands it one shard
+ * at a time. If a worker dies, its connection fails and the shard it held
+ * goes back on the queue for another worker; a worker that keeps its
+ * connection open but does not answer within a time limit scaled to the
+ * shard's size is dropped the same way. Results are kept per shard and
+ * added up in shard order once all are in; since a block's totals depend only
+ * on the configuration and totals are exact sums, the merged result is the
+ * same whatever the number of workers, the shard size, or which shards had
+ * to be replayed, and equal to an in-process Simulation of the same config.
+ *
+ * Finished shards are reported to a ConvergenceTracker, with shards as its
+ * units, so a precision target stops the job at a deterministic shard.
+ */
+public class SimulationCoordinator {
+
+	// Time a worker gets for any shard, on top of its per-round allowance
+	private static final int BASE_TIMEOUT_MILLIS = 30_000;
+	// Slowest rate, in seat-rounds per second, a live worker is assumed to play
+	private static final int MIN_ROUNDS_PER_SECOND = 10_000;
+
+	// A SimulationCoordinator has-a configuration
+	private final SimulationConfig config;
+	// Blocks per shard
+	private final int blocksPerShard;
+	// Shards still to hand out
+	private final ConcurrentLinkedDeque<Integer> pending = new ConcurrentLinkedDeque<>();
+	// Totals of each finished shard; written once per shard
+	private SimulationStats[] results;
+	// Number of shards finished
+	private final AtomicInteger finished = new AtomicInteger();
+	// Number of shards that had to be handed out again after a worker died
+	private final AtomicInteger reassigned = new AtomicInteger();
+	// Number of workers currently connected
+	private final AtomicInteger connected = new AtomicInteger();
+	// Number of workers dropped for not answering in time; their processes may still run
+	private final AtomicInteger timedOut = new AtomicInteger();
+	// Worker processes started by run()
+	private final List<Process> processes = new ArrayList<>();
+	// A SimulationCoordinator has-a convergence tracker fed every finished shard
+	private ConvergenceTracker convergence = new ConvergenceTracker();
+
+	/**
+	 * @param config         the run to simulate
+	 * @param blocksPerShard blocks sent to a worker at a time
+	 */
+	public SimulationCoordinator(SimulationConfig config, int blocksPerShard) {
+		if (blocksPerShard < 1) {
+			throw new IllegalArgumentException("Blocks per shard must be positive: " + blocksPerShard);
+		}
+		this.config = config;
+		this.blocksPerShard = blocksPerShard;
+	}
+
+	/**
+	 * Replaces the default tracker, which reports estimates but never stops
+	 * the job. Call before run().
+	 *
+	 * @param convergence the tracker to feed finished shards
+	 */
+	public void setConvergenceTracker(ConvergenceTracker convergence) {
+		this.convergence = convergence;
+	}
+
+	/**
+	 * @return the tracker fed every finished shard
+	 */
+	public ConvergenceTracker getConvergenceTracker() {
+		return convergence;
+	}
+
+	/**
+	 * Listens on a loopback port, starts the given number of worker processes
+	 * with this JVM's classpath, and runs the job to completion. Workers started
+	 * elsewhere may also connect to the same port.
+	 *
+	 * @param workerProcesses number of local worker processes to start
+	 * @return the merged totals, or the totals of the shards before the
+	 *         stopping point if the job converged
+	 * @throws IOException if every worker died or hung, or the socket fails
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public SimulationStats run(int workerProcesses) throws IOException, InterruptedException {
+		if (workerProcesses < 1) {
+			throw new IllegalArgumentException("Worker processes must be positive: " + workerProcesses);
+		}
+		long shardCount = (config.getBlockCount() + blocksPerShard - 1) / blocksPerShard;
+		if (shardCount > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Too many shards; use larger shards: " + shardCount);
+		}
+		results = new SimulationStats[(int) shardCount];
+		for (int shard = 0; shard < shardCount; shard++) {
+			pending.add(shard);
+		}
+
+		try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+			Thread acceptor = new Thread(() -> acceptWorkers(server), "coordinator-accept");
+			acceptor.setDaemon(true);
+			acceptor.start();
+			for (int i = 0; i < workerProcesses; i++) {
+				processes.add(startWorker(server.getLocalPort()));
+			}
+			while (finished.get() < results.length && !convergence.isConverged()) {
+				Thread.sleep(50);
+				if (connected.get() == 0 && aliveProcesses() <= timedOut.get() && finished.get() < results.length) {
+					throw new IOException("Every worker died or hung with " + (results.length - finished.get())
+							+ " shards left");
+				}
+			}
+		} finally {
+			for (Process process : processes) {
+				process.destroy();
+			}
+		}
+
+		if (convergence.isConverged()) {
+			return convergence.getEstimate().getStats().copy();
+		}
+		SimulationStats total = new SimulationStats();
+		for (SimulationStats shard : results) {
+			total.add(shard);
+		}
+		return total;
+	}
+
+	/**
+	 * @return the number of shards replayed because their worker died
+	 */
+	public int getReassignedShards() {
+		return reassigned.get();
+	}
+
+	/**
+	 * @return the number of workers dropped for not returning a shard in time
+	 */
+	public int getTimedOutWorkers() {
+		return timedOut.get();
+	}
+
+	/**
+	 * @return how long a worker may take to return one shard, in milliseconds
+	 */
+	public int getShardTimeoutMillis() {
+		long seatRounds = (long) blocksPerShard * config.getBlockSize() * config.getSeatCount();
+		return (int) Math.min(Integer.MAX_VALUE, BASE_TIMEOUT_MILLIS + seatRounds * 1000 / MIN_ROUNDS_PER_SECOND);
+	}
+
+	/**
+	 * @return the worker processes started by run()
+	 */
+	public List<Process> getProcesses() {
+		return processes;
+	}
+
+	// Helper: start one worker JVM connecting back to the given port
+	private static Process startWorker(int port) throws IOException {
+		String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		ProcessBuilder builder = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+				SimulationWorker.class.getName(), InetAddress.getLoopbackAddress().getHostAddress(),
+				Integer.toString(port));
+		builder.redirectOutput(ProcessBuilder.Redirect.INHERIT);
+		builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+		return builder.start();
+	}
+
+	// Helper: the number of started worker processes still running
+	private int aliveProcesses() {
+		int alive = 0;
+		for (Process process : processes) {
+			if (process.isAlive()) {
+				alive++;
+			}
+		}
+		return alive;
+	}
+
+	// Helper: accept worker connections until the server socket closes
+	private void acceptWorkers(ServerSocket server) {
+		while (!server.isClosed()) {
+			try {
+				Socket socket = server.accept();
+				connected.incrementAndGet();
+				Thread handler = new Thread(() -> serveWorker(socket), "coordinator-worker");
+				handler.setDaemon(true);
+				handler.start();
+			} catch (IOException e) {
+				return; // closed at the end of the run
+			}
+		}
+	}
+
+	// Helper: feed one worker shards until none are left or it dies
+	private void serveWorker(Socket socket) {
+		Integer shard = null;
+		try (Socket s = socket) {
+			s.setTcpNoDelay(true);
+			s.setSoTimeout(getShardTimeoutMillis());
+			DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream()));
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream()));
+			ByteBuffer job = ByteBuffer.allocate(config.getEncodedSize());
+			config.writeTo(job);
+			out.writeByte(ShardProtocol.JOB);
+			out.writeInt(job.capacity());
+			out.write(job.array());
+
+			byte[] encoded = new byte[SimulationStats.ENCODED_SIZE];
+			while (finished.get() < results.length && !convergence.isConverged()) {
+				shard = pending.poll();
+				if (shard == null) {
+					// stay connected: a shard may come back if another worker dies
+					Thread.sleep(20);
+					continue;
+				}
+				long firstBlock = (long) shard * blocksPerShard;
+				out.writeByte(ShardProtocol.SHARD);
+				out.writeInt(shard);
+				out.writeLong(firstBlock);
+				out.writeInt((int) Math.min(blocksPerShard, config.getBlockCount() - firstBlock));
+				out.flush();
+				if (in.readByte() != ShardProtocol.RESULT || in.readInt() != shard) {
+					throw new IOException("Unexpected reply from worker");
+				}
+				in.readFully(encoded);
+				SimulationStats stats = new SimulationStats();
+				stats.readFrom(ByteBuffer.wrap(encoded));
+				results[shard] = stats;
+				convergence.blockFinished(shard, stats);
+				finished.incrementAndGet();
+				shard = null;
+			}
+			out.writeByte(ShardProtocol.DONE);
+			out.flush();
+		} catch (IOException | InterruptedException e) {
+			if (e instanceof SocketTimeoutException) {
+				timedOut.incrementAndGet(); // hung: drop it like a dead worker
+			}
+			if (shard != null) {
+				// the worker died holding a shard: let another worker play it
+				pending.addFirst(shard);
+				reassigned.incrementAndGet();
+			}
+		} finally {
+			connected.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Runs a distributed simulation on local worker processes, playing every
+	 * seat with the dealer's own rules.
+	 *
+	 * Usage: SimulationCoordinator rounds workers [blocks-per-shard] [seed]
+	 *
+	 * @param args command line arguments
+	 * @throws Exception if the run fails
+	 */
+	public static void main(String[] args) throws Exception {
+		if (args.length < 2) {
+			System.err.println("Usage: SimulationCoordinator rounds workers [blocks-per-shard] [seed]");
+			System.exit(2);
+		}
+		long rounds = Long.parseLong(args[0]);
+		int workers = Integer.parseInt(args[1]);
+		int blocksPerShard = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+		long seed = args.length > 3 ? Long.parseLong(args[3]) : 1L;
+		SimulationConfig config = new SimulationConfig(rounds, seed, GameModel.MULTI_SEAT_DECKS, 1,
+				SimulationConfig.DEFAULT_BLOCK_SIZE, ThresholdStrategy.MIMIC_DEALER);
+		SimulationCoordinator coordinator = new SimulationCoordinator(config, blocksPerShard);
+		long start = System.nanoTime();
+		SimulationStats stats = coordinator.run(workers);
+		System.out.println(config);
+		System.out.println(stats);
+		System.out.printf("%.1f s, %d shards reassigned%n", (System.nanoTime() - start) / 1e9,
+				coordinator.getReassignedShards());
+	}
+}
@@ -0,0 +1,260 @@
+package simulation;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import model.GameResult;
+import model.SideBet;
+
+/**
+ * Running totals of simulated hands. Payouts are even money, as at the table,
+ * so a hand's result is +1, -1 or 0 units. Every hand also stakes one unit on
+ * each SideBet, tracked separately.
+ *
+ * Not thread-safe: each worker keeps its own totals and they are added
+ * together at the end. Addition is exact, so merged totals do not depend on
+ * how the work was split.
+ */
+public class SimulationStats {
+
+	/**
+	 * Number of bytes writeTo produces.
+	 */
+	public static final int ENCODED_SIZE = (6 + SideBet.values().length) * 8;
+
+	private long hands;
+	private long wins;
+	private long losses;
+	private long pushes;
+	private long blackjacks;
+	private long busts;
+	// Net units won on each side bet, by SideBet ordinal
+	private final long[] sideBetNet = new long[SideBet.values().length];
+
+	/**
+	 * Counts one settled hand.
+	 *
+	 * @param result    the hand's result
+	 * @param blackjack true if the hand was a natural
+	 * @param bust      true if the hand went over 21
+	 */
+	public void record(GameResult result, boolean blackjack, boolean bust) {
+		hands++;
+		if (result == GameResult.WIN) {
+			wins++;
+		} else if (result == GameResult.LOSS) {
+			losses++;
+		} else {
+			pushes++;
+		}
+		if (blackjack) {
+			blackjacks++;
+		}
+		if (bust) {
+			busts++;
+		}
+	}
+
+	/**
+	 * Counts one settled side bet.
+	 *
+	 * @param bet    the side bet
+	 * @param payout units won, or -1
+	 */
+	public void recordSideBet(SideBet bet, int payout) {
+		sideBetNet[bet.ordinal()] += payout;
+	}
+
+	/**
+	 * Adds another set of totals to this one.
+	 *
+	 * @param other the totals to add
+	 */
+	public void add(SimulationStats other) {
+		hands += other.hands;
+		wins += other.wins;
+		losses += other.losses;
+		pushes += other.pushes;
+		blackjacks += other.blackjacks;
+		busts += other.busts;
+		for (int i = 0; i < sideBetNet.length; i++) {
+			sideBetNet[i] += other.sideBetNet[i];
+		}
+	}
+
+	/**
+	 * @param buffer the buffer to write ENCODED_SIZE bytes to
+	 */
+	public void writeTo(ByteBuffer buffer) {
+		buffer.putLong(hands);
+		buffer.putLong(wins);
+		buffer.putLong(losses);
+		buffer.putLong(pushes);
+		buffer.putLong(blackjacks);
+		buffer.putLong(busts);
+		for (long net : sideBetNet) {
+			buffer.putLong(net);
+		}
+	}
+
+	/**
+	 * Replaces these totals with ones written by writeTo.
+	 *
+	 * @param buffer the buffer to read from
+	 */
+	public void readFrom(ByteBuffer buffer) {
+		hands = buffer.getLong();
+		wins = buffer.getLong();
+		losses = buffer.getLong();
+		pushes = buffer.getLong();
+		blackjacks = buffer.getLong();
+		busts = buffer.getLong();
+		for (int i = 0; i < sideBetNet.length; i++) {
+			sideBetNet[i] = buffer.getLong();
+		}
+	}
+
+	/**
+	 * @return hands settled
+	 */
+	public long getHands() {
+		return hands;
+	}
+
+	/**
+	 * @return hands won
+	 */
+	public long getWins() {
+		return wins;
+	}
+
+	/**
+	 * @return hands lost
+	 */
+	public long getLosses() {
+		return losses;
+	}
+
+	/**
+	 * @return hands pushed
+	 */
+	public long getPushes() {
+		return pushes;
+	}
+
+	/**
+	 * @return natural blackjacks dealt to the player
+	 */
+	public long getBlackjacks() {
+		return blackjacks;
+	}
+
+	/**
+	 * @return hands that went over 21
+	 */
+	public long getBusts() {
+		return busts;
+	}
+
+	/**
+	 * @return net units won (wins minus losses)
+	 */
+	public long getNet() {
+		return wins - losses;
+	}
+
+	/**
+	 * @return mean units won per hand, or 0 before any hand
+	 */
+	public double getExpectedValue() {
+		return hands == 0 ? 0.0 : (double) getNet() / hands;
+	}
+
+	/**
+	 * @param bet a side bet
+	 * @return net units won on it
+	 */
+	public long getSideBetNet(SideBet bet) {
+		return sideBetNet[bet.ordinal()];
+	}
+
+	/**
+	 * @param bet a side bet
+	 * @return the observed house edge of the side bet, or 0 before any hand
+	 */
+	public double getSideBetEdge(SideBet bet) {
+		return hands == 0 ? 0.0 : -(double) sideBetNet[bet.ordinal()] / hands;
+	}
+
+	/**
+	 * @return the sample variance of the units won per hand, or 0 with fewer
+	 *         than two hands
+	 */
+	public double getVariance() {
+		if (hands < 2) {
+			return 0.0;
+		}
+		// every hand is +1, -1 or 0, so the sum of squares is wins + losses
+		double mean = getExpectedValue();
+		return ((double) (wins + losses) - hands * mean * mean) / (hands - 1);
+	}
+
+	/**
+	 * @return the standard error of the expected value
+	 */
+	public double getStandardError() {
+		return hands == 0 ? Double.POSITIVE_INFINITY : Math.sqrt(getVariance() / hands);
+	}
+
+	/**
+	 * @param z the normal quantile of the confidence level, e.g. 1.96 for 95%
+	 * @return half the width of the confidence interval around the expected
+	 *         value
+	 */
+	public double getConfidenceHalfWidth(double z) {
+		return z * getStandardError();
+	}
+
+	/**
+	 * @return an independent copy of these totals
+	 */
+	public SimulationStats copy() {
+		SimulationStats copy = new SimulationStats();
+		copy.add(this);
+		return copy;
+	}
+
+	/**
+	 * Resets every total to zero.
+	 */
+	public void clear() {
+		hands = wins = losses = pushes = blackjacks = busts = 0;
+		Arrays.fill(sideBetNet, 0);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (!(o instanceof SimulationStats)) {
+			return false;
+		}
+		SimulationStats s = (SimulationStats) o;
+		return hands == s.hands && wins == s.wins && losses == s.losses && pushes == s.pushes
+				&& blackjacks == s.blackjacks && busts == s.busts && Arrays.equals(sideBetNet, s.sideBetNet);
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(hands * 31 + wins) * 31 + Long.hashCode(losses * 31 + busts);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder(String.format(
+				"hands=%d wins=%d losses=%d pushes=%d blackjacks=%d busts=%d ev=%+.5f se=%.5f", hands, wins, losses,
+				pushes, blackjacks, busts, getExpectedValue(), getStandardError()));
+		for (SideBet bet : SideBet.values()) {
+			sb.append(String.format(" %s_edge=%.5f", bet.name().toLowerCase(), getSideBetEdge(bet)));
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,70 @@
+package simulation;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+
+/**
+ * A worker process for a distributed simulation: connects to a
+ * SimulationCoordinator, receives the job, then plays each shard of blocks it
+ * is sent and returns the shard's totals, until told it is done.
+ *
+ * Usage: SimulationWorker host port
+ */
+public class SimulationWorker {
+
+	/**
+	 * Serves one coordinator connection until the job is done.
+	 *
+	 * @param socket a connection to the coordinator
+	 * @throws IOException if the connection fails
+	 */
+	public static void serve(Socket socket) throws IOException {
+		socket.setTcpNoDelay(true);
+		DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+		if (in.readByte() != ShardProtocol.JOB) {
+			throw new IOException("Expected a job from the coordinator");
+		}
+		byte[] encoded = new byte[in.readInt()];
+		in.readFully(encoded);
+		SimulationConfig config = SimulationConfig.readFrom(ByteBuffer.wrap(encoded));
+		ByteBuffer result = ByteBuffer.allocate(SimulationStats.ENCODED_SIZE);
+
+		while (in.readByte() == ShardProtocol.SHARD) {
+			int shard = in.readInt();
+			long firstBlock = in.readLong();
+			int blockCount = in.readInt();
+			SimulationStats stats = new SimulationStats();
+			for (long block = firstBlock; block < firstBlock + blockCount; block++) {
+				BlockPlayer.playBlock(config, block, stats);
+			}
+			result.clear();
+			stats.writeTo(result);
+			out.writeByte(ShardProtocol.RESULT);
+			out.writeInt(shard);
+			out.write(result.array());
+			out.flush();
+		}
+	}
+
+	/**
+	 * Connects to a coordinator and works until the job is done.
+	 *
+	 * @param args host port
+	 * @throws IOException if the connection fails
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.err.println("Usage: SimulationWorker host port");
+			System.exit(2);
+		}
+		try (Socket socket = new Socket(args[0], Integer.parseInt(args[1]))) {
+			serve(socket);
+		}
+	}
+}
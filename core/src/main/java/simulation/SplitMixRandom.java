@@ -0,0 +1,79 @@
+package simulation;
+
+import java.util.Random;
+
+/**
+ * SplitMixRandom is-a Random whose whole state is one long that can be read
+ * back and restored, so a checkpointed shoe resumes with exactly the shuffles
+ * it would have had. It uses the SplitMix64 generator, which is also cheap to
+ * seed from a (seed, block) pair.
+ *
+ * Not thread-safe; each simulation worker owns its own instance.
+ */
+public class SplitMixRandom extends Random {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+	// Generator state; advanced by GOLDEN_GAMMA per output
+	private long state;
+
+	/**
+	 * @param seed the initial state
+	 */
+	public SplitMixRandom(long seed) {
+		super(seed);
+		this.state = seed;
+	}
+
+	/**
+	 * Derives an independent seed for one block of a run, so any block can be
+	 * replayed without replaying the blocks before it.
+	 *
+	 * @param seed  the run's seed
+	 * @param block the block index
+	 * @return the block's seed
+	 */
+	public static long blockSeed(long seed, long block) {
+		return mix(seed + mix(block * GOLDEN_GAMMA + GOLDEN_GAMMA));
+	}
+
+	/**
+	 * @return the current state, for restoring with setState
+	 */
+	public long getState() {
+		return state;
+	}
+
+	/**
+	 * @param state a state previously returned by getState
+	 */
+	public void setState(long state) {
+		this.state = state;
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		// also called by Random's constructor, before this class's fields are set
+		this.state = seed;
+	}
+
+	@Override
+	public long nextLong() {
+		state += GOLDEN_GAMMA;
+		return mix(state);
+	}
+
+	@Override
+	protected int next(int bits) {
+		return (int) (nextLong() >>> (64 - bits));
+	}
+
+	// Helper: the SplitMix64 output function
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -0,0 +1,33 @@
+package simulation;
+
+/**
+ * Looks strategies up by the name they report from Strategy.getName(), so a
+ * job can name its strategy when it is sent to another process.
+ */
+public final class Strategies {
+
+	private static final String STAND_ON_PREFIX = "stand-on-";
+
+	private Strategies() {
+	}
+
+	/**
+	 * @param name a strategy name, e.g. "stand-on-17" or "chart-6d"
+	 * @return the strategy with that name
+	 * @throws IllegalArgumentException if no strategy has that name
+	 */
+	public static Strategy forName(String name) {
+		if (name.startsWith(STAND_ON_PREFIX)) {
+			try {
+				return new ThresholdStrategy(Integer.parseInt(name.substring(STAND_ON_PREFIX.length())));
+			} catch (NumberFormatException e) {
+				// fall through to the error below
+			}
+		}
+		int chartDecks = StrategyChart.parseDeckCount(name);
+		if (chartDecks >= 1) {
+			return StrategyChart.forDecks(chartDecks);
+		}
+		throw new IllegalArgumentException("Unknown strategy: " + name);
+	}
+}
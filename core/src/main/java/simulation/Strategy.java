@@ -0,0 +1,29 @@
+package simulation;
+
+import model.Card;
+import model.Player;
+import model.PlayerAction;
+
+/**
+ * A Strategy decides hit or stand for a simulated seat.
+ * Implementations must be stateless (or at least deterministic and
+ * thread-safe): one instance is shared by every worker, and a resumed run must
+ * make the same decisions as the run it continues.
+ */
+public interface Strategy {
+
+	/**
+	 * Decides the next action for a seat.
+	 *
+	 * @param player       the seat's current hand
+	 * @param dealerUpCard the dealer's visible card
+	 * @return PlayerAction.HIT or PlayerAction.STAND
+	 */
+	PlayerAction decide(Player player, Card dealerUpCard);
+
+	/**
+	 * @return a name identifying this strategy and its parameters, stored in
+	 *         checkpoints so a run is only resumed with the same strategy
+	 */
+	String getName();
+}
@@ -0,0 +1,245 @@
+package simulation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import model.Card;
+import model.Dealer;
+import model.Player;
+import model.PlayerAction;
+import model.Rank;
+
+/**
+ * StrategyChart is-a Strategy that looks each decision up in a hit/stand
+ * chart solved by StrategyChartGenerator for one shoe size.
+ *
+ * The chart is one byte per (soft, total, up-card value) cell in a flat
+ * array, so a decision is a single array index once the hand's total is
+ * known. Charts are cached in data/ as a short header followed by the cells,
+ * and loaded with one read; a chart for other rules is regenerated.
+ */
+public class StrategyChart implements Strategy {
+
+	private static final String NAME_PREFIX = "chart-";
+	private static final String NAME_SUFFIX = "d";
+	private static final int MAGIC = 0x424A5343; // "BJSC"
+	private static final int FORMAT_VERSION = 1;
+	// magic, version, deck count, dealer stand threshold
+	private static final int HEADER_SIZE = 4 + 4 + 1 + 1;
+	// Totals 0 to 21 by up-card values 0 (unused) to 10 (ace is 1)
+	private static final int TOTALS = 22;
+	private static final int UP_VALUES = 11;
+
+	/**
+	 * Number of cells: soft and hard totals against every up-card value.
+	 */
+	public static final int CELLS = 2 * TOTALS * UP_VALUES;
+
+	private static final PlayerAction[] ACTIONS = PlayerAction.values();
+	// Charts already loaded or generated in this process, by deck count
+	private static final Map<Integer, StrategyChart> CHARTS = new ConcurrentHashMap<>();
+
+	// A StrategyChart has-a number of decks it was solved for
+	private final int deckCount;
+	// A StrategyChart has-many cells, each a PlayerAction ordinal
+	private final byte[] actions;
+
+	StrategyChart(int deckCount, byte[] actions) {
+		this.deckCount = deckCount;
+		this.actions = actions;
+	}
+
+	/**
+	 * Returns the chart for a shoe size: the one already in use, else the
+	 * cached file, else a freshly generated chart, which is then cached.
+	 *
+	 * @param deckCount the number of decks in the shoe
+	 * @return the chart
+	 */
+	public static StrategyChart forDecks(int deckCount) {
+		return CHARTS.computeIfAbsent(deckCount, decks -> {
+			Path path = defaultPath(decks);
+			try {
+				return load(path, decks);
+			} catch (IOException e) {
+				// missing or stale; regenerate below
+			}
+			StrategyChart chart;
+			try {
+				chart = new StrategyChartGenerator(decks).generate(Runtime.getRuntime().availableProcessors());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while generating a chart", e);
+			}
+			try {
+				chart.save(path);
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+			return chart;
+		});
+	}
+
+	/**
+	 * @param deckCount the number of decks in the shoe
+	 * @return the cache file of the chart for that shoe size
+	 */
+	public static Path defaultPath(int deckCount) {
+		return Paths.get("data", "strategy-" + deckCount + "d.bin");
+	}
+
+	/**
+	 * @param name a strategy name
+	 * @return the deck count in a chart strategy name, or -1 if it is not one
+	 */
+	static int parseDeckCount(String name) {
+		if (!name.startsWith(NAME_PREFIX) || !name.endsWith(NAME_SUFFIX)) {
+			return -1;
+		}
+		try {
+			return Integer.parseInt(name.substring(NAME_PREFIX.length(), name.length() - NAME_SUFFIX.length()));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * @param total   the hand total
+	 * @param soft    true if an ace counts as 11 in that total
+	 * @param upValue the up card's point value, 1 for an ace
+	 * @return the cell of that decision
+	 */
+	static int index(int total, boolean soft, int upValue) {
+		return ((soft ? TOTALS : 0) + total) * UP_VALUES + upValue;
+	}
+
+	/**
+	 * @return cells filled with a fallback: hit below 12, stand otherwise
+	 */
+	static byte[] defaultActions() {
+		byte[] actions = new byte[CELLS];
+		for (int soft = 0; soft < 2; soft++) {
+			for (int total = 0; total < TOTALS; total++) {
+				PlayerAction action = total < 12 ? PlayerAction.HIT : PlayerAction.STAND;
+				for (int up = 0; up < UP_VALUES; up++) {
+					actions[index(total, soft == 1, up)] = (byte) action.ordinal();
+				}
+			}
+		}
+		return actions;
+	}
+
+	/**
+	 * Looks up the decision for a hand total.
+	 *
+	 * @param total   the hand total, at most 21
+	 * @param soft    true if an ace counts as 11 in that total
+	 * @param upValue the up card's point value, 1 for an ace
+	 * @return PlayerAction.HIT or PlayerAction.STAND
+	 */
+	public PlayerAction decide(int total, boolean soft, int upValue) {
+		return ACTIONS[actions[index(total, soft, upValue)]];
+	}
+
+	@Override
+	public PlayerAction decide(Player player, Card dealerUpCard) {
+		int hard = 0;
+		boolean hasAce = false;
+		for (Card card : player.getHand()) {
+			boolean ace = card.getRank() == Rank.ACE;
+			hard += ace ? 1 : card.getValue();
+			hasAce |= ace;
+		}
+		if (hard > 21) {
+			return PlayerAction.STAND;
+		}
+		boolean soft = hasAce && hard + 10 <= 21;
+		int upValue = dealerUpCard.getRank() == Rank.ACE ? 1 : dealerUpCard.getValue();
+		return decide(soft ? hard + 10 : hard, soft, upValue);
+	}
+
+	@Override
+	public String getName() {
+		return NAME_PREFIX + deckCount + NAME_SUFFIX; // parsed back by Strategies.forName
+	}
+
+	/**
+	 * @return the number of decks the chart was solved for
+	 */
+	public int getDeckCount() {
+		return deckCount;
+	}
+
+	/**
+	 * Writes the chart to a file, replacing it atomically.
+	 *
+	 * @param path the chart file
+	 * @throws IOException if the file cannot be written
+	 */
+	public void save(Path path) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + CELLS);
+		buffer.putInt(MAGIC);
+		buffer.putInt(FORMAT_VERSION);
+		buffer.put((byte) deckCount);
+		buffer.put((byte) Dealer.STAND_THRESHOLD);
+		buffer.put(actions);
+		Path parent = path.toAbsolutePath().getParent();
+		Files.createDirectories(parent);
+		Path temp = Files.createTempFile(parent, "strategy", ".tmp");
+		Files.write(temp, buffer.array());
+		Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Reads a chart file with a single read.
+	 *
+	 * @param path      the chart file
+	 * @param deckCount the shoe size the chart must be for
+	 * @return the chart
+	 * @throws IOException if the file is missing, malformed, or for other
+	 *                     rules or another shoe size
+	 */
+	public static StrategyChart load(Path path, int deckCount) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+		if (buffer.remaining() != HEADER_SIZE + CELLS || buffer.getInt() != MAGIC
+				|| buffer.getInt() != FORMAT_VERSION) {
+			throw new IOException("Not a strategy chart: " + path);
+		}
+		if (buffer.get() != deckCount || buffer.get() != Dealer.STAND_THRESHOLD) {
+			throw new IOException("Strategy chart is for other rules: " + path);
+		}
+		byte[] actions = new byte[CELLS];
+		buffer.get(actions);
+		for (byte action : actions) {
+			if (action < 0 || action >= ACTIONS.length) {
+				throw new IOException("Corrupt strategy chart: " + path);
+			}
+		}
+		return new StrategyChart(deckCount, actions);
+	}
+
+	/**
+	 * @return the chart as text: one row per hard and soft total, one column
+	 *         per up card from 2 to ace, H to hit and S to stand
+	 */
+	public String format() {
+		StringBuilder sb = new StringBuilder("         2  3  4  5  6  7  8  9  T  A\n");
+		for (int soft = 0; soft < 2; soft++) {
+			for (int total = soft == 1 ? 12 : 4; total <= 21; total++) {
+				sb.append(String.format("%s %2d ", soft == 1 ? "soft" : "hard", total));
+				for (int up = 2; up <= UP_VALUES; up++) {
+					PlayerAction action = decide(total, soft == 1, up == UP_VALUES ? 1 : up);
+					sb.append("  ").append(action == PlayerAction.HIT ? 'H' : 'S');
+				}
+				sb.append('\n');
+			}
+		}
+		return sb.toString();
+	}
+}
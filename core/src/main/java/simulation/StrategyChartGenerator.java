@@ -0,0 +1,296 @@
+package simulation;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import model.Dealer;
+import model.PlayerAction;
+
+/**
+ * Derives the best hit/stand decision for every chart cell (hard or soft
+ * total against each dealer up card) from exact expected values.
+ *
+ * Every expected value accounts for depletion: the player's cards and the up
+ * card are removed from the shoe, and each further draw, the player's or the
+ * dealer's, comes from what is left. The dealer follows the Dealer rules
+ * (stand from STAND_THRESHOLD, hit soft 17) and is known not to hold a
+ * blackjack, which the table settles before anyone acts. Values are memoized
+ * per up card on the exact cards in the player's hand, so each hand
+ * composition is solved once.
+ *
+ * A cell's decision weighs every hand composition of the fewest cards that
+ * reaches its total by how likely that hand is to be dealt, so the chart
+ * stays a single lookup per decision. The ten up cards are solved in
+ * parallel.
+ */
+public class StrategyChartGenerator {
+
+	// Point values 1 (ace) to 10 index the shoe counts
+	private static final int VALUES = 11;
+	// Bits per value in a hand key: up to 21 aces
+	private static final int KEY_BITS = 5;
+	// Dealer outcome slots: final totals from STAND_THRESHOLD to 21, then bust
+	private static final int BUST = 22 - Dealer.STAND_THRESHOLD;
+
+	// A StrategyChartGenerator has-a number of decks in the shoe
+	private final int deckCount;
+
+	/**
+	 * @param deckCount the number of 52-card decks in the shoe
+	 */
+	public StrategyChartGenerator(int deckCount) {
+		if (deckCount < 1) {
+			throw new IllegalArgumentException("Deck count must be at least 1: " + deckCount);
+		}
+		this.deckCount = deckCount;
+	}
+
+	/**
+	 * Solves every cell of the chart.
+	 *
+	 * @param threads number of worker threads
+	 * @return the chart
+	 * @throws InterruptedException if interrupted while waiting for workers
+	 */
+	public StrategyChart generate(int threads) throws InterruptedException {
+		byte[] actions = StrategyChart.defaultActions();
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int up = 1; up < VALUES; up++) {
+				int upValue = up;
+				futures.add(pool.submit(() -> new UpCardSolver(upValue).solve(actions)));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Chart generation failed", e.getCause());
+		} finally {
+			pool.shutdown();
+		}
+		return new StrategyChart(deckCount, actions);
+	}
+
+	/**
+	 * Solves the cells of one up card; used by one thread.
+	 */
+	private final class UpCardSolver {
+
+		// The dealer's up card value, 1 for an ace
+		private final int up;
+		// Unseen cards by point value; changed and restored during recursion
+		private final int[] shoe = new int[VALUES];
+		// Number of unseen cards
+		private int shoeSize;
+		// Best expected value of each hand, keyed by its value counts
+		private final Map<Long, Double> bestMemo = new HashMap<>();
+		// Expected value of standing on each hand
+		private final Map<Long, Double> standMemo = new HashMap<>();
+		// Reused dealer outcome probabilities
+		private final double[] outcome = new double[BUST + 1];
+
+		UpCardSolver(int up) {
+			this.up = up;
+			for (int value = 1; value < VALUES; value++) {
+				shoe[value] = 4 * deckCount * (value == 10 ? 4 : 1);
+			}
+			shoe[up]--;
+			shoeSize = 52 * deckCount - 1;
+		}
+
+		// Helper: decide every cell of this up card into the shared chart
+		void solve(byte[] actions) {
+			for (int soft = 0; soft < 2; soft++) {
+				for (int total = 4; total <= 21; total++) {
+					if (soft == 1 && total < 12) {
+						continue;
+					}
+					double[] ev = new double[2]; // weighted hit and stand values
+					int[] hand = new int[VALUES];
+					if (!weighCell(hand, 2, 1, 0, 1.0, total, soft == 1, ev)) {
+						weighCell(hand, 3, 1, 0, 1.0, total, soft == 1, ev);
+					}
+					PlayerAction action = ev[0] > ev[1] ? PlayerAction.HIT : PlayerAction.STAND;
+					actions[StrategyChart.index(total, soft == 1, up)] = (byte) action.ordinal();
+				}
+			}
+		}
+
+		/**
+		 * Adds the hit and stand values of every hand of the given size with
+		 * this total, weighted by the chance of drawing it, to ev.
+		 *
+		 * @return true if any such hand exists
+		 */
+		private boolean weighCell(int[] hand, int cards, int minValue, long key, double weight, int total,
+				boolean soft, double[] ev) {
+			if (cards == 0) {
+				int hard = hardTotal(hand);
+				boolean isSoft = hand[1] > 0 && hard + 10 <= 21;
+				int value = isSoft ? hard + 10 : hard;
+				if (value != total || isSoft != soft || isNatural(hand)) {
+					return false;
+				}
+				ev[0] += weight * hitValue(hand, key);
+				ev[1] += weight * standValue(hand, key);
+				return true;
+			}
+			boolean found = false;
+			// draws in nondecreasing value order; each order of the same cards is counted by the multiplier
+			for (int value = minValue; value < VALUES; value++) {
+				if (shoe[value] == 0) {
+					continue;
+				}
+				double p = weight * shoe[value] / shoeSize;
+				hand[value]++;
+				p *= (double) sum(hand) / hand[value];
+				draw(value);
+				found |= weighCell(hand, cards - 1, value, key + keyOf(value), p, total, soft, ev);
+				undraw(value);
+				hand[value]--;
+			}
+			return found;
+		}
+
+		// Helper: the better of hitting and standing on a hand
+		private double bestValue(int[] hand, long key) {
+			Double cached = bestMemo.get(key);
+			if (cached == null) {
+				cached = Math.max(standValue(hand, key), hitValue(hand, key));
+				bestMemo.put(key, cached);
+			}
+			return cached;
+		}
+
+		// Helper: value of taking one card and then playing on perfectly
+		private double hitValue(int[] hand, long key) {
+			int hard = hardTotal(hand);
+			double ev = 0.0;
+			for (int value = 1; value < VALUES; value++) {
+				if (shoe[value] == 0) {
+					continue;
+				}
+				double p = (double) shoe[value] / shoeSize;
+				if (hard + value > 21) {
+					ev -= p;
+					continue;
+				}
+				hand[value]++;
+				draw(value);
+				ev += p * bestValue(hand, key + keyOf(value));
+				undraw(value);
+				hand[value]--;
+			}
+			return ev;
+		}
+
+		// Helper: value of standing against the dealer's draws from the remaining shoe
+		private double standValue(int[] hand, long key) {
+			Double cached = standMemo.get(key);
+			if (cached == null) {
+				int hard = hardTotal(hand);
+				int total = hand[1] > 0 && hard + 10 <= 21 ? hard + 10 : hard;
+				Arrays.fill(outcome, 0.0);
+				// the hole card cannot complete a blackjack
+				int excluded = up == 1 ? 10 : up == 10 ? 1 : 0;
+				dealer(up, up == 1, 1.0, excluded);
+				double ev = outcome[BUST];
+				for (int dealerTotal = Dealer.STAND_THRESHOLD; dealerTotal <= 21; dealerTotal++) {
+					double p = outcome[dealerTotal - Dealer.STAND_THRESHOLD];
+					ev += total > dealerTotal ? p : total < dealerTotal ? -p : 0.0;
+				}
+				cached = ev;
+				standMemo.put(key, cached);
+			}
+			return cached;
+		}
+
+		// Helper: add the probability of every dealer finish from a hard total to outcome
+		private void dealer(int hard, boolean hasAce, double p, int excluded) {
+			boolean soft = hasAce && hard + 10 <= 21;
+			int total = soft ? hard + 10 : hard;
+			if (total > 21) {
+				outcome[BUST] += p;
+				return;
+			}
+			if (total > Dealer.STAND_THRESHOLD || total == Dealer.STAND_THRESHOLD && !soft) {
+				outcome[total - Dealer.STAND_THRESHOLD] += p;
+				return;
+			}
+			int drawable = shoeSize - (excluded == 0 ? 0 : shoe[excluded]);
+			for (int value = 1; value < VALUES; value++) {
+				if (value == excluded || shoe[value] == 0) {
+					continue;
+				}
+				double q = p * shoe[value] / drawable;
+				draw(value);
+				dealer(hard + value, hasAce || value == 1, q, 0);
+				undraw(value);
+			}
+		}
+
+		private void draw(int value) {
+			shoe[value]--;
+			shoeSize--;
+		}
+
+		private void undraw(int value) {
+			shoe[value]++;
+			shoeSize++;
+		}
+	}
+
+	// Helper: hand key contribution of one card
+	private static long keyOf(int value) {
+		return 1L << (KEY_BITS * (value - 1));
+	}
+
+	// Helper: hand total with every ace counted as 1
+	private static int hardTotal(int[] hand) {
+		int total = 0;
+		for (int value = 1; value < VALUES; value++) {
+			total += value * hand[value];
+		}
+		return total;
+	}
+
+	// Helper: number of cards in a hand
+	private static int sum(int[] hand) {
+		int cards = 0;
+		for (int count : hand) {
+			cards += count;
+		}
+		return cards;
+	}
+
+	// Helper: true for a two-card 21, settled before any decision
+	private static boolean isNatural(int[] hand) {
+		return sum(hand) == 2 && hand[1] == 1 && hand[10] == 1;
+	}
+
+	/**
+	 * Generates the chart for a shoe size, prints it and saves it.
+	 *
+	 * @param args deck-count [chart-file]
+	 * @throws Exception if generation or saving fails
+	 */
+	public static void main(String[] args) throws Exception {
+		int decks = args.length > 0 ? Integer.parseInt(args[0]) : 6;
+		Path path = args.length > 1 ? Paths.get(args[1]) : StrategyChart.defaultPath(decks);
+		long start = System.nanoTime();
+		StrategyChart chart = new StrategyChartGenerator(decks).generate(Runtime.getRuntime().availableProcessors());
+		System.out.printf("%.1f s%n", (System.nanoTime() - start) / 1e9);
+		System.out.print(chart.format());
+		chart.save(path);
+	}
+}
@@ -0,0 +1,38 @@
+package simulation;
+
+import model.Card;
+import model.Dealer;
+import model.Player;
+import model.PlayerAction;
+
+/**
+ * ThresholdStrategy is-a Strategy that hits below a fixed total and stands
+ * otherwise, whatever the dealer shows.
+ */
+public class ThresholdStrategy implements Strategy {
+
+	/**
+	 * Plays like the dealer, standing on 17 (soft 17 included).
+	 */
+	public static final ThresholdStrategy MIMIC_DEALER = new ThresholdStrategy(Dealer.STAND_THRESHOLD);
+
+	// A ThresholdStrategy has-a total at which it stands
+	private final int standOn;
+
+	/**
+	 * @param standOn the lowest total to stand on
+	 */
+	public ThresholdStrategy(int standOn) {
+		this.standOn = standOn;
+	}
+
+	@Override
+	public PlayerAction decide(Player player, Card dealerUpCard) {
+		return player.calculateHandValue() < standOn ? PlayerAction.HIT : PlayerAction.STAND;
+	}
+
+	@Override
+	public String getName() {
+		return "stand-on-" + standOn; // parsed back by Strategies.forName
+	}
+}
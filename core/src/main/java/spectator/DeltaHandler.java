@@ -0,0 +1,27 @@
+package spectator;
+
+import model.TableSnapshot;
+
+/**
+ * Receives table changes from a {@link SpectatorChannel} subscription.
+ */
+public interface DeltaHandler {
+
+	/**
+	 * Called with the full table state when a subscription starts or has fallen
+	 * too far behind; the deltas that follow apply on top of this snapshot.
+	 * While the snapshot reports the dealer's down card hidden, its dealer
+	 * hand holds only the up card and its dealer total is the up-card value;
+	 * the down card arrives with HOLE_CARD_REVEALED.
+	 *
+	 * @param snapshot the table state to restart from
+	 */
+	void onSnapshot(TableSnapshot snapshot);
+
+	/**
+	 * Called for each table change, in order.
+	 *
+	 * @param delta the encoded change; decode it with {@link TableDelta}
+	 */
+	void onDelta(long delta);
+}
@@ -0,0 +1,19 @@
+package spectator;
+
+/**
+ * Enumerates the kinds of table change a spectator can receive.
+ */
+public enum DeltaType {
+	// A new round began; hands are empty
+	ROUND_STARTED,
+	// A face-up card was dealt to a seat or the dealer
+	CARD_DEALT,
+	// The dealer's down card was dealt; its identity is withheld
+	HOLE_CARD_DEALT,
+	// The dealer's down card was turned over
+	HOLE_CARD_REVEALED,
+	// A seat's result was decided
+	SEAT_SETTLED,
+	// Every seat is settled and the round is over
+	ROUND_ENDED;
+}
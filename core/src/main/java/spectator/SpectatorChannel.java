@@ -0,0 +1,231 @@
+package spectator;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import model.TableSnapshot;
+
+/**
+ * Broadcasts the changes of one table to any number of local spectators.
+ *
+ * The table (a single producer) writes each change as one long into a shared
+ * ring buffer and never waits for anyone. Each subscription keeps its own
+ * cursor and pulls deltas at its own pace. A subscription that falls more
+ * than a ring's worth behind has missed deltas; depending on its
+ * {@link LagPolicy} it is either resynchronized from the latest table
+ * snapshot or closed.
+ */
+public class SpectatorChannel {
+
+	/**
+	 * What happens to a subscription that falls too far behind.
+	 */
+	public enum LagPolicy {
+		// Deliver the latest snapshot and continue from there
+		RESYNC,
+		// Close the subscription
+		DROP;
+	}
+
+	/**
+	 * Snapshot paired with the number of deltas already reflected in it.
+	 */
+	private static final class Mark {
+		final TableSnapshot snapshot;
+		final long sequence;
+
+		Mark(TableSnapshot snapshot, long sequence) {
+			this.snapshot = snapshot;
+			this.sequence = sequence;
+		}
+	}
+
+	// Default ring capacity, a power of two
+	public static final int DEFAULT_CAPACITY = 4096;
+
+	// A SpectatorChannel has-a ring of encoded deltas
+	private final AtomicLongArray ring;
+	// Capacity minus one, for masking sequence numbers into the ring
+	private final int mask;
+	// Number of deltas published so far; the next delta gets this sequence
+	private final AtomicLong published = new AtomicLong();
+	// Latest snapshot and its position in the delta stream
+	private volatile Mark mark = new Mark(null, 0);
+
+	/**
+	 * Creates a channel with the default capacity.
+	 */
+	public SpectatorChannel() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a channel whose ring holds the given number of deltas.
+	 *
+	 * @param capacity ring size; must be a power of two
+	 */
+	public SpectatorChannel(int capacity) {
+		if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+		}
+		ring = new AtomicLongArray(capacity);
+		mask = capacity - 1;
+	}
+
+	/**
+	 * Publishes one delta. Called only by the table's thread.
+	 *
+	 * @param delta the encoded change
+	 */
+	public void publish(long delta) {
+		long sequence = published.get();
+		ring.lazySet((int) (sequence & mask), delta);
+		published.set(sequence + 1);
+	}
+
+	/**
+	 * Records the table state after the deltas published so far, for
+	 * subscriptions that start or resynchronize. Called only by the table's
+	 * thread. Subscribers get the spectator copy of the snapshot, without the
+	 * dealer's hidden down card, just as the deltas never carry it.
+	 *
+	 * @param snapshot the current table state
+	 */
+	public void markSnapshot(TableSnapshot snapshot) {
+		mark = new Mark(snapshot.withoutHiddenCard(), published.get());
+	}
+
+	/**
+	 * Opens a subscription that resynchronizes when it falls behind.
+	 *
+	 * @return the new subscription
+	 */
+	public Subscription subscribe() {
+		return subscribe(LagPolicy.RESYNC);
+	}
+
+	/**
+	 * Opens a subscription. Its first poll delivers the latest snapshot.
+	 *
+	 * @param policy what to do when the subscription falls behind
+	 * @return the new subscription
+	 */
+	public Subscription subscribe(LagPolicy policy) {
+		return new Subscription(policy);
+	}
+
+	/**
+	 * @return the number of deltas published so far
+	 */
+	public long getPublishedCount() {
+		return published.get();
+	}
+
+	/**
+	 * One spectator's position in the delta stream. A subscription is used by
+	 * one consumer thread at a time.
+	 */
+	public final class Subscription {
+
+		// A Subscription has-a lag policy
+		private final LagPolicy policy;
+		// Sequence of the next delta to deliver
+		private long cursor;
+		// True until the first snapshot has been delivered
+		private boolean needsSnapshot = true;
+		// True once dropped for lagging
+		private boolean closed = false;
+		// Number of times this subscription was resynchronized after lagging
+		private long resyncs = 0;
+
+		private Subscription(LagPolicy policy) {
+			this.policy = policy;
+		}
+
+		/**
+		 * Delivers up to max pending deltas (and a snapshot first if the
+		 * subscription is new or has fallen behind).
+		 *
+		 * @param handler receives the snapshot and deltas
+		 * @param max     the most deltas to deliver in this call
+		 * @return the number of deltas delivered, or -1 if the subscription was
+		 *         dropped for lagging
+		 */
+		public int poll(DeltaHandler handler, int max) {
+			if (closed) {
+				return -1;
+			}
+			if (needsSnapshot) {
+				resync(handler);
+				needsSnapshot = false;
+			}
+			int delivered = 0;
+			while (delivered < max) {
+				long head = published.get();
+				if (cursor >= head) {
+					break;
+				}
+				if (head - cursor > mask && !recover(handler)) {
+					return -1;
+				}
+				if (cursor >= head) {
+					break;
+				}
+				long delta = ring.get((int) (cursor & mask));
+				// the slot may have been overwritten while it was read
+				if (published.get() - cursor > mask) {
+					if (!recover(handler)) {
+						return -1;
+					}
+					continue;
+				}
+				handler.onDelta(delta);
+				cursor++;
+				delivered++;
+			}
+			return delivered;
+		}
+
+		/**
+		 * @return the number of published deltas not yet delivered
+		 */
+		public long getLag() {
+			return published.get() - cursor;
+		}
+
+		/**
+		 * @return the number of times this subscription was resynchronized
+		 */
+		public long getResyncCount() {
+			return resyncs;
+		}
+
+		/**
+		 * @return true if the subscription was dropped for lagging
+		 */
+		public boolean isClosed() {
+			return closed;
+		}
+
+		// Helper: handle having been lapped by the producer
+		private boolean recover(DeltaHandler handler) {
+			if (policy == LagPolicy.DROP) {
+				closed = true;
+				return false;
+			}
+			resyncs++;
+			resync(handler);
+			return true;
+		}
+
+		// Helper: deliver the latest snapshot and continue after it
+		private void resync(DeltaHandler handler) {
+			Mark current = mark;
+			if (current.snapshot != null) {
+				handler.onSnapshot(current.snapshot);
+			}
+			// never restart from a position the ring has already overwritten
+			cursor = Math.max(current.sequence, published.get() - mask);
+		}
+	}
+}
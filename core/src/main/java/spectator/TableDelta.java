@@ -0,0 +1,122 @@
+package spectator;
+
+import model.Card;
+import model.GameResult;
+
+/**
+ * Encodes one table change into a single long, so deltas can be stored in a
+ * primitive ring buffer and copied to spectators without allocation.
+ *
+ * Bit layout, low to high: type (4), seat (4), position in hand (5), card
+ * universe index (6), result (2), unused, round number (low 32 bits in the
+ * top half).
+ */
+public final class TableDelta {
+
+	/**
+	 * Seat number used for the dealer's hand.
+	 */
+	public static final int DEALER = 15;
+
+	// Card field value when no card is carried
+	private static final int NO_CARD = 63;
+	// Cached enum values for decoding
+	private static final DeltaType[] TYPES = DeltaType.values();
+	private static final GameResult[] RESULTS = GameResult.values();
+
+	private TableDelta() {
+	}
+
+	/**
+	 * Encodes a delta.
+	 *
+	 * @param type     the kind of change
+	 * @param round    the round number
+	 * @param seat     the seat index, or DEALER
+	 * @param position the card's position in the hand
+	 * @param card     the card, or null if none is carried
+	 * @param result   the seat's result, or null if none is carried
+	 * @return the encoded delta
+	 */
+	public static long encode(DeltaType type, long round, int seat, int position, Card card, GameResult result) {
+		long cardBits = card == null ? NO_CARD : card.getIndex();
+		long resultBits = result == null ? 0 : result.ordinal() + 1;
+		return type.ordinal()
+				| (long) (seat & 0xF) << 4
+				| (long) (position & 0x1F) << 8
+				| cardBits << 13
+				| resultBits << 19
+				| round << 32;
+	}
+
+	/**
+	 * @param delta an encoded delta
+	 * @return the kind of change
+	 */
+	public static DeltaType type(long delta) {
+		return TYPES[(int) (delta & 0xF)];
+	}
+
+	/**
+	 * @param delta an encoded delta
+	 * @return the seat index, or DEALER
+	 */
+	public static int seat(long delta) {
+		return (int) (delta >>> 4) & 0xF;
+	}
+
+	/**
+	 * @param delta an encoded delta
+	 * @return the card's position in the hand
+	 */
+	public static int position(long delta) {
+		return (int) (delta >>> 8) & 0x1F;
+	}
+
+	/**
+	 * @param delta an encoded delta
+	 * @return the card carried, or null
+	 */
+	public static Card card(long delta) {
+		int index = (int) (delta >>> 13) & 0x3F;
+		return index == NO_CARD ? null : Card.of(index);
+	}
+
+	/**
+	 * @param delta an encoded delta
+	 * @return the seat's result, or null
+	 */
+	public static GameResult result(long delta) {
+		int bits = (int) (delta >>> 19) & 0x3;
+		return bits == 0 ? null : RESULTS[bits - 1];
+	}
+
+	/**
+	 * @param delta an encoded delta
+	 * @return the low 32 bits of the round number
+	 */
+	public static long round(long delta) {
+		return delta >>> 32;
+	}
+
+	/**
+	 * Formats a delta for logs and overlays, e.g. "CARD_DEALT round=3 seat=1 pos=2 king_of_hearts".
+	 *
+	 * @param delta an encoded delta
+	 * @return a readable description
+	 */
+	public static String toString(long delta) {
+		StringBuilder sb = new StringBuilder(type(delta).name());
+		sb.append(" round=").append(round(delta));
+		int seat = seat(delta);
+		sb.append(seat == DEALER ? " dealer" : " seat=" + seat);
+		sb.append(" pos=").append(position(delta));
+		if (card(delta) != null) {
+			sb.append(' ').append(card(delta));
+		}
+		if (result(delta) != null) {
+			sb.append(' ').append(result(delta));
+		}
+		return sb.toString();
+	}
+}
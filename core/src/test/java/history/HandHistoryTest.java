@@ -0,0 +1,186 @@
+package history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import model.Card;
+import model.GameModel;
+import model.GameResult;
+import model.Player;
+
+/**
+ * Checks that the hand-history format reads back exactly what was written;
+ * the format is read across sessions, so it must not drift.
+ *
+ * The rounds are random, plus the extremes: seven seats of MAX_CARDS cards,
+ * every result and none, and round and timestamp deltas that go backwards or
+ * span the whole long range.
+ */
+class HandHistoryTest {
+
+	private static final GameResult[] RESULTS = GameResult.values();
+	// Rounds written to every test archive
+	private static final int ROUNDS = 20_000;
+	// Rounds per block, small so the archive has many blocks
+	private static final int ROUNDS_PER_BLOCK = 64;
+
+	// The rounds every test writes, the extremes first
+	private static RoundRecord[] expected;
+
+	@BeforeAll
+	static void buildRounds() {
+		Random random = new Random(1);
+		expected = new RoundRecord[ROUNDS];
+		for (int i = 0; i < ROUNDS; i++) {
+			expected[i] = i < 4 ? extreme(i) : randomRound(random, i);
+		}
+	}
+
+	@Test
+	void codecRoundTripsEveryRoundWithinItsBound() {
+		byte[] raw = new byte[expected.length * RoundCodec.MAX_ROUND_BYTES];
+		int pos = 0;
+		long prevRound = 0;
+		long prevTime = 0;
+		for (RoundRecord record : expected) {
+			int start = pos;
+			pos = RoundCodec.encode(record, prevRound, prevTime, raw, pos);
+			assertTrue(pos - start <= RoundCodec.MAX_ROUND_BYTES, () -> "Round too large: " + record);
+			prevRound = record.getRound();
+			prevTime = record.getTimestamp();
+		}
+		RoundRecord decoded = new RoundRecord();
+		int end = pos;
+		pos = 0;
+		prevRound = 0;
+		prevTime = 0;
+		for (RoundRecord record : expected) {
+			pos = RoundCodec.decode(raw, pos, prevRound, prevTime, decoded);
+			assertEquals(record.toString(), decoded.toString());
+			prevRound = decoded.getRound();
+			prevTime = decoded.getTimestamp();
+		}
+		assertEquals(end, pos);
+	}
+
+	@Test
+	void archiveReadsBackInOrderAndAtRandom(@TempDir Path dir) throws IOException {
+		Path archive = write(dir, ROUNDS);
+		assertArchive(archive, ROUNDS);
+	}
+
+	@Test
+	void tornArchiveKeepsCompleteBlocksAndAppendsAfterThem(@TempDir Path dir) throws IOException {
+		Path archive = write(dir, ROUNDS);
+		// cut inside the last block, dropping it and the index, as a crash would
+		long lastBlock;
+		int kept;
+		try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+			BlockIndex index = BlockIndex.load(channel);
+			lastBlock = index.getOffset(index.size() - 1);
+			kept = (int) index.getFirstRound(index.size() - 1);
+		}
+		byte[] bytes = Files.readAllBytes(archive);
+		Files.write(archive, Arrays.copyOf(bytes, (int) lastBlock + BlockIndex.BLOCK_HEADER_SIZE + 3));
+		assertArchive(archive, kept);
+
+		try (HandHistoryWriter writer = new HandHistoryWriter(archive, ROUNDS_PER_BLOCK)) {
+			assertEquals(kept, writer.getRoundCount());
+			for (int i = kept; i < ROUNDS; i++) {
+				writer.append(expected[i]);
+			}
+		}
+		assertArchive(archive, ROUNDS);
+	}
+
+	// Helper: write the first rounds to a new archive
+	private static Path write(Path dir, int rounds) throws IOException {
+		Path archive = dir.resolve("history.bin");
+		try (HandHistoryWriter writer = new HandHistoryWriter(archive, ROUNDS_PER_BLOCK)) {
+			for (int i = 0; i < rounds; i++) {
+				writer.append(expected[i]);
+			}
+		}
+		return archive;
+	}
+
+	// Helper: read an archive in order and at random, expecting its first rounds
+	private static void assertArchive(Path archive, int rounds) throws IOException {
+		try (HandHistoryReader reader = new HandHistoryReader(archive)) {
+			assertEquals(rounds, reader.getRoundCount());
+			int[] next = { 0 };
+			reader.forEach(0, record -> assertEquals(expected[next[0]++].toString(), record.toString()));
+			assertEquals(rounds, next[0]);
+			Random random = new Random(2);
+			RoundRecord record = new RoundRecord();
+			for (int i = 0; i < 2_000; i++) {
+				int index = random.nextInt(rounds);
+				reader.read(index, record);
+				assertEquals(expected[index].toString(), record.toString());
+			}
+		}
+	}
+
+	// Helper: one of the boundary rounds
+	private static RoundRecord extreme(int kind) {
+		RoundRecord record = new RoundRecord();
+		switch (kind) {
+		case 0: // the largest round the format holds
+			record.reset(Long.MAX_VALUE, Long.MAX_VALUE, GameModel.MAX_SEATS);
+			for (int hand = 0; hand <= GameModel.MAX_SEATS; hand++) {
+				int index = hand == GameModel.MAX_SEATS ? RoundRecord.DEALER : hand;
+				for (int i = 0; i < Player.MAX_CARDS; i++) {
+					record.setCard(index, i, Card.of((hand * 7 + i * 11) % Card.DECK_SIZE));
+				}
+			}
+			for (int seat = 0; seat < GameModel.MAX_SEATS; seat++) {
+				record.setResult(seat, seat < RESULTS.length ? RESULTS[seat] : null);
+			}
+			return record;
+		case 1: // deltas that span the whole long range, backwards
+			record.reset(Long.MIN_VALUE, Long.MIN_VALUE, 1);
+			return record;
+		case 2: // no cards, no result
+			record.reset(0, 0, 1);
+			return record;
+		default: // cards at both ends of the index range
+			record.reset(-1, 1, 2);
+			record.setCard(0, 0, Card.of(0));
+			record.setCard(0, 1, Card.of(Card.DECK_SIZE - 1));
+			record.setCard(RoundRecord.DEALER, 0, Card.of(Card.DECK_SIZE / 2));
+			record.setResult(1, RESULTS[RESULTS.length - 1]);
+			return record;
+		}
+	}
+
+	// Helper: a plausible round with occasional long hands and unsettled seats
+	private static RoundRecord randomRound(Random random, int i) {
+		RoundRecord record = new RoundRecord();
+		int seats = 1 + random.nextInt(GameModel.MAX_SEATS);
+		record.reset(i * 3L + random.nextInt(3), 1_700_000_000_000L + i * 1_500L + random.nextInt(5_000), seats);
+		for (int hand = 0; hand <= seats; hand++) {
+			int index = hand == seats ? RoundRecord.DEALER : hand;
+			int cards = random.nextInt(20) == 0 ? random.nextInt(Player.MAX_CARDS + 1) : 2 + random.nextInt(3);
+			for (int c = 0; c < cards; c++) {
+				record.setCard(index, c, Card.of(random.nextInt(Card.DECK_SIZE)));
+			}
+		}
+		for (int seat = 0; seat < seats; seat++) {
+			int result = random.nextInt(RESULTS.length + 1);
+			record.setResult(seat, result == RESULTS.length ? null : RESULTS[result]);
+		}
+		return record;
+	}
+}
@@ -0,0 +1,254 @@
+package controller;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.List;
+
+import model.Card;
+import model.GameModel;
+import model.ShoeComposition;
+import model.TableSnapshot;
+import view.GameView;
+
+/**
+ * GameController manages user interactions and mediates between GameModel and
+ * GameView.
+ * It listens for Deal, Hit, and Stand actions, updating the game state and UI
+ * accordingly.
+ */
+public class GameController implements ActionListener {
+
+	// A GameController has-a model
+	private GameModel model;
+	// A GameController has-a view
+	private GameView view;
+
+	/**
+	 * Constructs a GameController linking the given model and view.
+	 *
+	 * @param model the game logic model
+	 * @param view  the UI for displaying game state
+	 */
+	public GameController(GameModel model, GameView view) {
+		this.model = model;
+		this.view = view;
+	}
+
+	/**
+	 * Registers action listeners on Deal, Hit, and Stand buttons.
+	 */
+	public void initialize() {
+		// hook up control buttons
+		view.getDealButton().addActionListener(this);
+		view.getHitButton().addActionListener(this);
+		view.getStandButton().addActionListener(this);
+	}
+
+	/**
+	 * Starts a new round, or shows the round left in progress by the last
+	 * session, and updates the display (used at app launch).
+	 */
+	public void updateInitialDisplay() {
+		if (!model.isRoundActive()) {
+			handleDeal();
+			return;
+		}
+		// a round restored from the last session: show it as it was left
+		TableSnapshot table = model.getSnapshot();
+		view.resetBoard();
+		showDealerHand(table);
+		showSeats(table);
+		refreshStatus(table);
+		if (table.getSeats().size() == 1) {
+			view.setMessage("Round restored. Hit or Stand!");
+		} else {
+			promptActiveSeat(table);
+		}
+	}
+
+	/**
+	 * Handles button actions: Deal, Hit, or Stand, delegating to helpers.
+	 *
+	 * @param e the action event triggered by a button click
+	 */
+	@Override
+	public void actionPerformed(ActionEvent e) {
+		String cmd = e.getActionCommand();
+		if ("Deal".equals(cmd)) {
+			handleDeal();
+			return;
+		} else if ("Hit".equals(cmd)) {
+			handleHit();
+			return;
+		} else if ("Stand".equals(cmd)) {
+			handleStand();
+			return;
+		}
+	}
+
+	// ----- Helper methods for actions -----
+	/**
+	 * Renders an entire hand on specified row.
+	 */
+	private void showHand(int row, List<Card> hand) {
+		for (int i = 0; i < hand.size(); i++) {
+			view.showCard(row, i, hand.get(i));
+		}
+	}
+
+	/**
+	 * Renders the dealer's hand on row 0, showing the back of the down card
+	 * while it is hidden.
+	 */
+	private void showDealerHand(TableSnapshot table) {
+		List<Card> hand = table.getDealerHand();
+		for (int i = 0; i < hand.size(); i++) {
+			if (i == 1 && table.isDealerDownCardHidden()) {
+				view.showCardBack(0, i);
+			} else {
+				view.showCard(0, i, hand.get(i));
+			}
+		}
+	}
+
+	/**
+	 * Renders every seat's hand on its row (row 1 + seat index).
+	 */
+	private void showSeats(TableSnapshot table) {
+		for (int seat = 0; seat < table.getSeats().size(); seat++) {
+			showHand(1 + seat, table.getSeat(seat).getHand());
+		}
+	}
+
+	/**
+	 * Update status from a snapshot: dealer's up-card value while the down card
+	 * is hidden, dealer's full total once it is revealed. The player total is
+	 * the total of the seat to act, or of seat 0 between rounds. While a seat
+	 * is to act, its odds are read from the live shoe composition.
+	 */
+	private void refreshStatus(TableSnapshot table) {
+		int shownSeat = table.getActiveSeat() < 0 ? 0 : table.getActiveSeat();
+		view.updateStatus(table.getSeat(shownSeat).getTotal(), table.getVisibleDealerTotal(), table.getWins(),
+				table.getLosses());
+		for (int seat = 0; seat < table.getSeats().size(); seat++) {
+			TableSnapshot.Seat state = table.getSeat(seat);
+			String text = "Seat " + (seat + 1) + ": " + state.getTotal();
+			if (state.getResult() != null) {
+				text += " " + resultMessage(state);
+			}
+			view.setSeatStatus(seat, text, seat == table.getActiveSeat());
+		}
+		if (table.isRoundActive() && table.getActiveSeat() >= 0) {
+			ShoeComposition shoe = model.getShoeComposition();
+			view.setOdds(shoe.getBustProbability(table.getSeat(shownSeat).getHand()), shoe.getTenProbability(),
+					shoe.getDealerBustProbability(table.getDealerHand().get(0)));
+		} else {
+			view.clearOdds();
+		}
+	}
+
+	/**
+	 * Resets the view and starts a new round.
+	 */
+	private void handleDeal() {
+		view.resetBoard();
+		model.startNewRound();
+		// render hands
+		TableSnapshot table = model.getSnapshot();
+		showDealerHand(table);
+		showSeats(table);
+		refreshStatus(table);
+		if (!table.isRoundActive()) {
+			displayResult(table);
+		} else if (table.getSeats().size() == 1) {
+			view.setMessage("Game started. Hit or Stand!");
+		} else {
+			promptActiveSeat(table);
+		}
+	}
+
+	/**
+	 * Processes a Hit for the seat to act: deals a card and handles bust
+	 * outcomes.
+	 */
+	private void handleHit() {
+		if (!model.isRoundActive()) {
+			return;
+		}
+		int seat = model.getActiveSeat();
+		model.playerHits(seat);
+		TableSnapshot table = model.getSnapshot();
+		showHand(1 + seat, table.getSeat(seat).getHand());
+		afterTurnAction(table, seat);
+	}
+
+	/**
+	 * Processes a Stand for the seat to act: passes the turn on, or executes
+	 * the dealer turn and handles the outcome once every seat is done.
+	 */
+	private void handleStand() {
+		if (!model.isRoundActive()) {
+			return;
+		}
+		int seat = model.getActiveSeat();
+		model.playerStands(seat);
+		afterTurnAction(model.getSnapshot(), seat);
+	}
+
+	/**
+	 * Refreshes the status after a seat acted and shows the results once the
+	 * round is over, or prompts the next seat when the turn moved on.
+	 */
+	private void afterTurnAction(TableSnapshot table, int seat) {
+		refreshStatus(table);
+		if (!table.isRoundActive()) {
+			displayResult(table);
+		} else if (table.getActiveSeat() != seat) {
+			promptActiveSeat(table);
+		}
+	}
+
+	/**
+	 * Tells the seat whose turn it is to act.
+	 */
+	private void promptActiveSeat(TableSnapshot table) {
+		view.setMessage("Seat " + (table.getActiveSeat() + 1) + ": Hit or Stand!");
+	}
+
+	/**
+	 * Displays the revealed dealer hand, the final seat hands, and the result
+	 * message of every seat, then updates status.
+	 *
+	 * @param table the settled table state
+	 */
+	private void displayResult(TableSnapshot table) {
+		showDealerHand(table);
+		showSeats(table);
+		String msg;
+		if (table.getSeats().size() == 1) {
+			msg = resultMessage(table.getSeat(0));
+		} else {
+			StringBuilder sb = new StringBuilder();
+			for (int seat = 0; seat < table.getSeats().size(); seat++) {
+				if (seat > 0) {
+					sb.append("  ");
+				}
+				sb.append("Seat ").append(seat + 1).append(": ").append(resultMessage(table.getSeat(seat)));
+			}
+			msg = sb.toString();
+		}
+		view.setMessage(msg);
+		refreshStatus(table);
+	}
+
+	/**
+	 * Returns the message for a settled seat (e.g., bust message or the
+	 * result's default message).
+	 */
+	private String resultMessage(TableSnapshot.Seat seat) {
+		if (seat.getTotal() > 21) {
+			return "Bust! Dealer wins.";
+		}
+		return seat.getResult().defaultMessage();
+	}
+}
@@ -0,0 +1,146 @@
+package view;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import javax.imageio.ImageIO;
+
+import metrics.Metrics;
+import model.Card;
+import model.Rank;
+import model.Suit;
+
+/**
+ * Supplies card images from a packed atlas (see {@link CardAtlasPacker}).
+ * The whole set is decoded with one read when the provider is loaded, and
+ * every face and the back is handed out as a sub-image sharing the atlas
+ * pixels, so no further decoding or classpath lookups happen while playing.
+ * A themed card set is just another atlas name.
+ *
+ * The atlas holds every image at one cell width. A card drawn wider than that
+ * (a large window on a HiDPI screen) is taken from the fallback provider
+ * instead, when there is one, so it is not enlarged from the atlas.
+ */
+public class AtlasCardImageProvider implements CardImageProvider {
+
+    /**
+     * Resource path of the atlas the build packs from /cards, without
+     * extension.
+     */
+    public static final String DEFAULT_ATLAS = "/cards/" + CardAtlasPacker.DEFAULT_NAME;
+
+    // Sub-images indexed by card universe index, with the back last
+    private final BufferedImage[] images;
+    // An AtlasCardImageProvider has-a provider for images wider than a cell,
+    // or null
+    private final CardImageProvider fallback;
+
+    private AtlasCardImageProvider(BufferedImage[] images, CardImageProvider fallback) {
+        this.images = images;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Loads an atlas from the classpath, with no fallback for wide cards.
+     *
+     * @param resource the atlas resource path without extension, e.g.
+     *                 DEFAULT_ATLAS
+     * @return the provider, or null if the atlas is missing or incomplete
+     */
+    public static AtlasCardImageProvider load(String resource) {
+        return load(resource, null);
+    }
+
+    /**
+     * Loads an atlas from the classpath.
+     *
+     * @param resource the atlas resource path without extension, e.g.
+     *                 DEFAULT_ATLAS
+     * @param fallback the provider of images wider than the atlas cells, or
+     *                 null
+     * @return the provider, or null if the atlas is missing or incomplete
+     */
+    public static AtlasCardImageProvider load(String resource, CardImageProvider fallback) {
+        long start = System.nanoTime();
+        try (InputStream indexIn = AtlasCardImageProvider.class.getResourceAsStream(resource + ".idx");
+                InputStream atlasIn = AtlasCardImageProvider.class.getResourceAsStream(resource + ".png")) {
+            if (indexIn == null || atlasIn == null) {
+                return null;
+            }
+            ByteBuffer index = ByteBuffer.wrap(indexIn.readAllBytes());
+            BufferedImage atlas = ImageIO.read(atlasIn);
+            if (atlas == null || index.getInt() != CardAtlas.MAGIC || index.getShort() != CardAtlas.VERSION) {
+                return null;
+            }
+            BufferedImage[] images = new BufferedImage[CardAtlas.IMAGE_COUNT];
+            int count = index.getShort();
+            for (int i = 0; i < count; i++) {
+                int imageIndex = index.getShort();
+                int x = index.getShort();
+                int y = index.getShort();
+                int w = index.getShort();
+                int h = index.getShort();
+                if (imageIndex >= 0 && imageIndex < images.length) {
+                    images[imageIndex] = atlas.getSubimage(x, y, w, h);
+                }
+            }
+            for (BufferedImage image : images) {
+                if (image == null) {
+                    return null;
+                }
+            }
+            return new AtlasCardImageProvider(images, fallback);
+        } catch (IOException | RuntimeException e) { // a damaged atlas falls back to single images
+            e.printStackTrace();
+            return null;
+        } finally {
+            Metrics.IMAGE_LOAD.recordSince(start);
+        }
+    }
+
+    /**
+     * Returns the face image for a rank and suit.
+     *
+     * @param rank the card's rank
+     * @param suit the card's suit
+     * @return the face image, sharing the atlas pixels
+     */
+    public BufferedImage getImage(Rank rank, Suit suit) {
+        return images[Card.of(rank, suit).getIndex()];
+    }
+
+    @Override
+    public BufferedImage getFaceImage(Card card) {
+        return images[card.getIndex()];
+    }
+
+    @Override
+    public BufferedImage getBackImage() {
+        return images[ScaledCardImageCache.BACK_INDEX];
+    }
+
+    @Override
+    public BufferedImage getFaceImage(Card card, int minWidth) {
+        BufferedImage image = images[card.getIndex()];
+        if (fallback == null || image.getWidth() >= minWidth) {
+            return image;
+        }
+        return wider(image, fallback.getFaceImage(card, minWidth));
+    }
+
+    @Override
+    public BufferedImage getBackImage(int minWidth) {
+        BufferedImage image = images[ScaledCardImageCache.BACK_INDEX];
+        if (fallback == null || image.getWidth() >= minWidth) {
+            return image;
+        }
+        return wider(image, fallback.getBackImage(minWidth));
+    }
+
+    // Helper: the fallback image if it is wider than the atlas cell
+    private static BufferedImage wider(BufferedImage cell, BufferedImage loaded) {
+        return loaded != null && loaded.getWidth() > cell.getWidth() ? loaded : cell;
+    }
+}
@@ -0,0 +1,344 @@
+package view;
+
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.image.BufferedImage;
+
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JRootPane;
+import javax.swing.Timer;
+
+/**
+ * CardAnimator is-a transparent glass pane that animates cards being dealt
+ * into their slots and the dealer's down card flipping over.
+ *
+ * A single Swing timer drives every animation at about 60 fps. Progress is
+ * computed from the clock rather than counted in frames, so a slow frame
+ * makes the next one jump ahead instead of making the animation lag, and a
+ * paint that takes longer than FRAME_BUDGET_NANOS skips the next tick. All
+ * animation state is preallocated and only pre-scaled images are composited
+ * at their logical size, so a frame allocates nothing. The pane registers no mouse listeners, so
+ * clicks pass straight through to the buttons underneath.
+ */
+public class CardAnimator extends JComponent implements ActionListener {
+
+    private static final long serialVersionUID = 1L;
+
+    // Timer period: one frame at 60 fps
+    public static final int FRAME_INTERVAL_MS = 16;
+    // Drawing time allowed per frame; a paint that overruns skips the next tick
+    public static final long FRAME_BUDGET_NANOS = 8_000_000L;
+    // Time for a card to travel from the shoe to its slot
+    public static final int DEAL_DURATION_MS = 250;
+    // Delay between the starts of consecutive queued animations
+    public static final int DEAL_STAGGER_MS = 120;
+    // Time for the down card to turn over
+    public static final int FLIP_DURATION_MS = 300;
+    // Maximum animations in flight; extra cards are placed without animating
+    private static final int MAX_ANIMATIONS = 64;
+    // Margin between the shoe position and the top-right corner
+    private static final int SHOE_MARGIN = 20;
+
+    private static final int DEAL = 0;
+    private static final int FLIP = 1;
+
+    /**
+     * One reusable animation slot.
+     */
+    private static final class Animation {
+        boolean active;
+        int type;
+        JLabel slot;
+        CardIcon finalIcon;
+        BufferedImage front;
+        BufferedImage back;
+        int cardWidth, cardHeight;
+        long startNanos;
+        long durationNanos;
+        boolean placed;
+        // order in which the animation was requested, from 1
+        long generation;
+        int fromX, fromY, toX, toY;
+        // bounds painted in the current frame
+        int x, y, width, height;
+    }
+
+    // A CardAnimator has-many preallocated animations
+    private final Animation[] animations = new Animation[MAX_ANIMATIONS];
+    // Number of active animations
+    private int activeCount = 0;
+    // A CardAnimator has-a frame timer
+    private final Timer timer;
+    // Earliest start time for the next queued animation
+    private long nextStartNanos = 0;
+    // Time the last paintComponent took to draw the animations, in nanoseconds
+    private long lastPaintNanos = 0;
+    // Generation of the last animation requested
+    private long queuedGeneration = 0;
+    // Highest generation drawn on screen or landed in its slot
+    private long visibleGeneration = 0;
+    // Called on the EDT each time the pane has painted, or null
+    private Runnable paintListener;
+
+    /**
+     * Creates an idle animator. Install it as the frame's glass pane and make
+     * it visible.
+     */
+    public CardAnimator() {
+        for (int i = 0; i < MAX_ANIMATIONS; i++) {
+            animations[i] = new Animation();
+        }
+        setOpaque(false);
+        timer = new Timer(FRAME_INTERVAL_MS, this);
+        timer.setCoalesce(true);
+    }
+
+    /**
+     * Animates a card flying from the shoe into an empty slot, then shows its
+     * icon there. Cards queued together are dealt one after another.
+     *
+     * @param slot the slot receiving the card
+     * @param icon the pre-scaled icon the slot shows when the card lands
+     */
+    public void deal(JLabel slot, CardIcon icon) {
+        enqueue(DEAL, slot, icon, null, DEAL_DURATION_MS);
+    }
+
+    /**
+     * Animates a face-down card in a slot turning face-up.
+     *
+     * @param slot the slot holding the card
+     * @param icon the pre-scaled face icon the slot shows once turned over
+     * @param back the pre-scaled back icon shown during the first half
+     */
+    public void flip(JLabel slot, CardIcon icon, CardIcon back) {
+        enqueue(FLIP, slot, icon, back, FLIP_DURATION_MS);
+    }
+
+    /**
+     * Completes any animation targeting the slot, leaving its final icon shown.
+     *
+     * @param slot the slot to settle
+     */
+    public void finish(JLabel slot) {
+        for (Animation a : animations) {
+            if (a.active && a.slot == slot) {
+                complete(a);
+            }
+        }
+    }
+
+    /**
+     * Completes every animation at once, leaving final icons shown (used when
+     * the layout changes under them).
+     */
+    public void finishAll() {
+        for (Animation a : animations) {
+            if (a.active) {
+                complete(a);
+            }
+        }
+        nextStartNanos = 0;
+    }
+
+    /**
+     * Drops every animation without showing its icon (used when the board is
+     * cleared).
+     */
+    public void cancelAll() {
+        for (Animation a : animations) {
+            if (a.active) {
+                deactivate(a);
+            }
+        }
+        nextStartNanos = 0;
+        repaint();
+    }
+
+    /**
+     * @return true when no animation is running or queued
+     */
+    public boolean isIdle() {
+        return activeCount == 0;
+    }
+
+    /**
+     * @return the generation of the last animation requested; every deal or
+     *         flip gets the next one, even if it is placed without animating
+     */
+    public long getQueuedGeneration() {
+        return queuedGeneration;
+    }
+
+    /**
+     * @return the highest generation that has been drawn in flight or whose
+     *         card has landed in its slot
+     */
+    public long getVisibleGeneration() {
+        return visibleGeneration;
+    }
+
+    /**
+     * Registers a hook run on the EDT each time this pane has painted.
+     *
+     * @param paintListener the hook, or null to remove it
+     */
+    public void setPaintListener(Runnable paintListener) {
+        this.paintListener = paintListener;
+    }
+
+    // Helper: claim a free animation, or place the icon at once if none is free
+    private void enqueue(int type, JLabel slot, CardIcon icon, CardIcon back, int durationMs) {
+        finish(slot);
+        queuedGeneration++;
+        Animation a = null;
+        for (Animation candidate : animations) {
+            if (!candidate.active) {
+                a = candidate;
+                break;
+            }
+        }
+        if (a == null) {
+            slot.setIcon(icon);
+            visibleGeneration = Math.max(visibleGeneration, queuedGeneration);
+            return;
+        }
+        long now = System.nanoTime();
+        long start = Math.max(now, nextStartNanos);
+        nextStartNanos = start + DEAL_STAGGER_MS * 1_000_000L;
+        a.active = true;
+        a.type = type;
+        a.slot = slot;
+        a.finalIcon = icon;
+        a.front = icon.getImage();
+        a.back = back == null ? null : back.getImage();
+        a.cardWidth = icon.getIconWidth();
+        a.cardHeight = icon.getIconHeight();
+        a.startNanos = start;
+        a.durationNanos = durationMs * 1_000_000L;
+        a.placed = false;
+        a.generation = queuedGeneration;
+        a.width = 0;
+        activeCount++;
+        slot.setIcon(null); // the slot keeps its size while the card is drawn here
+        if (!timer.isRunning()) {
+            timer.start();
+        }
+    }
+
+    /**
+     * Advances every animation to the current time. Runs on the EDT.
+     *
+     * @param e the timer event
+     */
+    @Override
+    public void actionPerformed(ActionEvent e) {
+        if (lastPaintNanos > FRAME_BUDGET_NANOS) {
+            // give the EDT a frame to catch up; progress follows the clock
+            lastPaintNanos = 0;
+            return;
+        }
+        long tickStart = System.nanoTime();
+        for (Animation a : animations) {
+            if (!a.active || tickStart < a.startNanos) {
+                continue;
+            }
+            double progress = (double) (tickStart - a.startNanos) / a.durationNanos;
+            if (progress >= 1.0) {
+                complete(a);
+                continue;
+            }
+            if (!a.placed && !place(a)) {
+                continue;
+            }
+            repaintBounds(a);
+            if (a.type == DEAL) {
+                a.x = a.fromX + (int) ((a.toX - a.fromX) * progress);
+                a.y = a.fromY + (int) ((a.toY - a.fromY) * progress);
+                a.width = a.cardWidth;
+            } else {
+                // squeeze to nothing and widen again, centred on the slot
+                a.width = Math.max(1, (int) (a.cardWidth * Math.abs(Math.cos(Math.PI * progress))));
+                a.x = a.toX + (a.cardWidth - a.width) / 2;
+                a.y = a.toY;
+            }
+            a.height = a.cardHeight;
+            repaintBounds(a);
+        }
+        if (activeCount == 0) {
+            timer.stop();
+        }
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        long now = System.nanoTime();
+        for (Animation a : animations) {
+            if (!a.active || !a.placed || a.width == 0) {
+                continue;
+            }
+            BufferedImage img = a.front;
+            if (a.type == FLIP && now - a.startNanos < a.durationNanos / 2) {
+                img = a.back;
+            }
+            g.drawImage(img, a.x, a.y, a.width, a.height, null);
+            visibleGeneration = Math.max(visibleGeneration, a.generation);
+        }
+        lastPaintNanos = System.nanoTime() - now;
+        if (paintListener != null) {
+            paintListener.run();
+        }
+    }
+
+    /**
+     * Works out start and end positions in this pane's coordinates once the
+     * target slot has been laid out.
+     *
+     * @return false if the slot is not laid out yet
+     */
+    private boolean place(Animation a) {
+        if (!a.slot.isShowing() || a.slot.getWidth() == 0) {
+            return false;
+        }
+        int slotX = 0;
+        int slotY = 0;
+        for (Component c = a.slot; c != null && !(c instanceof JRootPane); c = c.getParent()) {
+            slotX += c.getX();
+            slotY += c.getY();
+        }
+        a.toX = slotX + (a.slot.getWidth() - a.cardWidth) / 2;
+        a.toY = slotY + (a.slot.getHeight() - a.cardHeight) / 2;
+        a.fromX = getWidth() - a.cardWidth - SHOE_MARGIN;
+        a.fromY = SHOE_MARGIN;
+        a.placed = true;
+        return true;
+    }
+
+    // Helper: show the final icon and release the animation
+    private void complete(Animation a) {
+        a.slot.setIcon(a.finalIcon);
+        visibleGeneration = Math.max(visibleGeneration, a.generation);
+        repaintBounds(a);
+        deactivate(a);
+    }
+
+    // Helper: release an animation slot
+    private void deactivate(Animation a) {
+        a.active = false;
+        a.slot = null;
+        a.finalIcon = null;
+        a.front = null;
+        a.back = null;
+        activeCount--;
+    }
+
+    // Helper: schedule a repaint of the area last painted for an animation
+    private void repaintBounds(Animation a) {
+        if (a.width > 0) {
+            repaint(a.x, a.y, a.width, a.height);
+        }
+    }
+}
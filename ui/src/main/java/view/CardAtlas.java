@@ -0,0 +1,26 @@
+package view;
+
+/**
+ * Layout shared by the card atlas packer and its reader. An atlas is a pair
+ * of resources: NAME.png holds every face and the back packed into one image,
+ * and NAME.idx locates each of them.
+ *
+ * The index is big-endian: MAGIC (int), VERSION (short), entry count
+ * (short), then per entry the image index (a card's universe index, or
+ * ScaledCardImageCache.BACK_INDEX for the back) followed by x, y, width and
+ * height in atlas pixels, each a short.
+ */
+final class CardAtlas {
+
+    static final int MAGIC = 0x4341544C; // "CATL"
+    static final short VERSION = 1;
+    // Bytes per index entry: five shorts
+    static final int ENTRY_SIZE = 10;
+    // Bytes before the first entry
+    static final int HEADER_SIZE = 4 + 2 + 2;
+    // Number of images in a complete atlas: 52 faces and the back
+    static final int IMAGE_COUNT = ScaledCardImageCache.BACK_INDEX + 1;
+
+    private CardAtlas() {
+    }
+}
@@ -0,0 +1,116 @@
+package view;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+import javax.imageio.ImageIO;
+
+import model.Card;
+
+/**
+ * Build tool that packs the card faces and back from a directory of PNGs
+ * into one atlas image plus its index (see {@link CardAtlas}). Every image is
+ * scaled to the same cell width, by default two and a half times the
+ * standard card width, which covers the standard table on HiDPI screens.
+ * Cards drawn wider than a cell come from the single images instead (see
+ * {@link AtlasCardImageProvider}), so those still ship next to the atlas.
+ *
+ * Usage: CardAtlasPacker source-dir output-dir [atlas-name] [cell-width]
+ */
+public class CardAtlasPacker {
+
+    /**
+     * Atlas name used when none is given.
+     */
+    public static final String DEFAULT_NAME = "atlas";
+    /**
+     * Cell width used when none is given.
+     */
+    public static final int DEFAULT_CELL_WIDTH = 2 * GameView.CARD_SIZE.width + GameView.CARD_SIZE.width / 2;
+    // Cells per atlas row
+    private static final int COLUMNS = 8;
+    // Transparent gap around every cell
+    private static final int PADDING = 2;
+
+    /**
+     * Packs the images and writes NAME.png and NAME.idx.
+     *
+     * @param sourceDir directory holding KEY.png for every card and the back
+     * @param outputDir directory to write the atlas to
+     * @param name      the atlas name
+     * @param cellWidth width of every packed image, in pixels
+     * @throws IOException if an image cannot be read or the atlas written
+     */
+    public static void pack(File sourceDir, File outputDir, String name, int cellWidth) throws IOException {
+        BufferedImage[] cells = new BufferedImage[CardAtlas.IMAGE_COUNT];
+        for (int i = 0; i < cells.length; i++) {
+            String key = i == ScaledCardImageCache.BACK_INDEX ? ResourceCardImageProvider.BACK_KEY
+                    : Card.of(i).getImageKey();
+            File file = new File(sourceDir, key + ".png");
+            BufferedImage source = ImageIO.read(file);
+            if (source == null) {
+                throw new IOException("Not an image: " + file);
+            }
+            int height = source.getHeight() * cellWidth / source.getWidth();
+            cells[i] = ScaledCardImageCache.scale(source, cellWidth, height);
+        }
+
+        int rows = (cells.length + COLUMNS - 1) / COLUMNS;
+        int[] rowTop = new int[rows + 1];
+        for (int row = 0; row < rows; row++) {
+            int rowHeight = 0;
+            for (int i = row * COLUMNS; i < Math.min(cells.length, (row + 1) * COLUMNS); i++) {
+                rowHeight = Math.max(rowHeight, cells[i].getHeight());
+            }
+            rowTop[row + 1] = rowTop[row] + rowHeight + 2 * PADDING;
+        }
+        int atlasWidth = COLUMNS * (cellWidth + 2 * PADDING);
+        if (atlasWidth > Short.MAX_VALUE || rowTop[rows] > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Cell width too large for an atlas: " + cellWidth);
+        }
+
+        BufferedImage atlas = new BufferedImage(atlasWidth, rowTop[rows], BufferedImage.TYPE_INT_ARGB);
+        ByteBuffer index = ByteBuffer.allocate(CardAtlas.HEADER_SIZE + cells.length * CardAtlas.ENTRY_SIZE);
+        index.putInt(CardAtlas.MAGIC);
+        index.putShort(CardAtlas.VERSION);
+        index.putShort((short) cells.length);
+        Graphics2D g = atlas.createGraphics();
+        for (int i = 0; i < cells.length; i++) {
+            int x = (i % COLUMNS) * (cellWidth + 2 * PADDING) + PADDING;
+            int y = rowTop[i / COLUMNS] + PADDING;
+            g.drawImage(cells[i], x, y, null);
+            index.putShort((short) i);
+            index.putShort((short) x);
+            index.putShort((short) y);
+            index.putShort((short) cells[i].getWidth());
+            index.putShort((short) cells[i].getHeight());
+        }
+        g.dispose();
+
+        Files.createDirectories(outputDir.toPath());
+        if (!ImageIO.write(atlas, "png", new File(outputDir, name + ".png"))) {
+            throw new IOException("No PNG writer available");
+        }
+        Files.write(new File(outputDir, name + ".idx").toPath(), index.array());
+    }
+
+    /**
+     * Runs the packer from the command line or the build.
+     *
+     * @param args source-dir output-dir [atlas-name] [cell-width]
+     * @throws IOException if packing fails
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: CardAtlasPacker source-dir output-dir [atlas-name] [cell-width]");
+            System.exit(2);
+        }
+        String name = args.length > 2 ? args[2] : DEFAULT_NAME;
+        int cellWidth = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_CELL_WIDTH;
+        pack(new File(args[0]), new File(args[1]), name, cellWidth);
+    }
+}
@@ -0,0 +1,53 @@
+package view;
+
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+
+import javax.swing.Icon;
+
+/**
+ * Icon that draws a card image into a fixed logical size. On a HiDPI display
+ * the image is rendered at device resolution, so drawing it into the logical
+ * size maps it one-to-one onto screen pixels instead of upscaling it.
+ */
+public class CardIcon implements Icon {
+
+    // A CardIcon has-a image at device resolution
+    private final BufferedImage image;
+    // Logical size of the icon
+    private final int width, height;
+
+    /**
+     * @param image  the image at device resolution
+     * @param width  logical width
+     * @param height logical height
+     */
+    public CardIcon(BufferedImage image, int width, int height) {
+        this.image = image;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * @return the image at device resolution
+     */
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    @Override
+    public void paintIcon(Component c, Graphics g, int x, int y) {
+        g.drawImage(image, x, y, width, height, null);
+    }
+
+    @Override
+    public int getIconWidth() {
+        return width;
+    }
+
+    @Override
+    public int getIconHeight() {
+        return height;
+    }
+}
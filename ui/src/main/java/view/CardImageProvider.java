@@ -0,0 +1,50 @@
+package view;
+
+import java.awt.image.BufferedImage;
+
+import model.Card;
+
+/**
+ * Supplies the source images the table draws for cards. The model only knows
+ * each card's image key; decoding is up to the provider, and scaling and
+ * caching are up to {@link ScaledCardImageCache}.
+ */
+public interface CardImageProvider {
+
+    /**
+     * Returns the face image for a card.
+     *
+     * @param card the card to draw
+     * @return the card's face image, or null if it cannot be loaded
+     */
+    BufferedImage getFaceImage(Card card);
+
+    /**
+     * Returns the image shown for a face-down card.
+     *
+     * @return the card back image, or null if it cannot be loaded
+     */
+    BufferedImage getBackImage();
+
+    /**
+     * Returns the best face image for drawing a card at least minWidth pixels
+     * wide: the smallest variant that is wide enough, or the largest one.
+     *
+     * @param card     the card to draw
+     * @param minWidth the target width in device pixels
+     * @return the chosen face image
+     */
+    default BufferedImage getFaceImage(Card card, int minWidth) {
+        return getFaceImage(card);
+    }
+
+    /**
+     * Returns the best back image for drawing at least minWidth pixels wide.
+     *
+     * @param minWidth the target width in device pixels
+     * @return the chosen back image
+     */
+    default BufferedImage getBackImage(int minWidth) {
+        return getBackImage();
+    }
+}
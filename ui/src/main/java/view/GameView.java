@@ -0,0 +1,581 @@
+package view;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.GraphicsConfiguration;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import javax.imageio.ImageIO;
+import javax.swing.JButton;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.SwingConstants;
+import javax.swing.Timer;
+import javax.swing.BoxLayout;
+
+import events.EventBus;
+import history.HandHistoryRecorder;
+import history.HandHistoryWriter;
+import metrics.MetricsServer;
+import model.Card;
+import model.GameModel;
+import controller.GameController;
+
+/**
+ * GameView is-a JFrame that displays the Blackjack game interface,
+ * including message banner, status panel, card grid, and control buttons.
+ */
+public class GameView extends JFrame {
+
+    // Max cards constant
+    public static final int MAX_CARDS = 11;
+    // Window height and width constants
+    public static final int WINDOW_WIDTH = 1100;
+    public static final int WINDOW_HEIGHT = 800;
+    // Layout and style constants
+    public static final int CARD_GRID_HGAP = 5;
+    public static final int CARD_GRID_VGAP = 5;
+    public static final Dimension CARD_SIZE = new Dimension(100, 150);
+    public static final Font MESSAGE_FONT = new Font("SansSerif", Font.BOLD, 18);
+    public static final int BUTTON_HGAP = 10;
+    public static final int BUTTON_VGAP = 10;
+    // Vertical space left for card rows once banner and buttons are laid out
+    public static final int CARD_AREA_HEIGHT = 600;
+    // Card widths are multiples of this, so resizing reuses cached sizes
+    public static final int CARD_SIZE_STEP = 10;
+    // Smallest card width the table shrinks to
+    public static final int MIN_CARD_WIDTH = 30;
+    // Quiet time after the last resize event before cards are rescaled
+    public static final int RESIZE_DELAY_MS = 120;
+    // Value in shownCards for an empty slot
+    private static final int EMPTY_SLOT = -1;
+
+    // A GamePanel has-a buttonPanel
+    private JPanel buttonPanel;
+    // A GamePanel has-a messageLabel
+    private JLabel messageLabel;
+    // A GamePanel has-many cardSlots: row 0 is the dealer, row 1 + n is seat n
+    private JLabel[][] cardSlots;
+    // Image index shown (or arriving) in each slot: a card's universe index,
+    // ScaledCardImageCache.BACK_INDEX for a card back, or EMPTY_SLOT
+    private int[][] shownCards;
+    // A GamePanel has-a cardPanel holding the card rows
+    private JPanel cardPanel;
+    // Called on the EDT each time the card panel has painted, or null
+    private Runnable paintListener;
+    // Fires once resizing has settled
+    private Timer resizeTimer;
+    // A GamePanel has-a card animator drawn over the table
+    private final CardAnimator animator = new CardAnimator();
+    // A GamePanel has-many seatLabels, only shown when more than one seat plays
+    private JLabel[] seatLabels;
+    // Card size used for every slot, fitted to the window and the seat count
+    private Dimension cardSize;
+    // A GamePanel has-a cache of scaled card images
+    private final ScaledCardImageCache cardImages = new ScaledCardImageCache(cardImageProvider());
+    // A GamePanel has-a winLossLabel, playerTotal, dealerTotal
+    private JLabel winLossLabel, playerTotalLabel, dealerTotalLabel;
+    // A GamePanel has-a oddsLabel showing draw and dealer bust odds
+    private JLabel oddsLabel;
+    // A GamePanel has-a backgroundimage
+    private BufferedImage backgroundImage;
+    // A GamePanel has-a dealButton, hitButton, standButton
+    private JButton dealButton, hitButton, standButton;
+
+    /**
+     * Constructs the GameView by initializing frame properties, loading background
+     * image,
+     * creating UI components, and displaying the window.
+     * 
+     * @param model the GameModel providing game data
+     */
+    public GameView(GameModel model) {
+        setTitle("Blackjack"); // set window title
+        setPreferredSize(new Dimension(WINDOW_WIDTH, WINDOW_HEIGHT)); // set frame size
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE); // exit when closed
+        setResizable(true); // cards are rescaled to fit the window
+
+        int seatCount = model.getSeatCount();
+        cardSlots = new JLabel[1 + seatCount][MAX_CARDS];
+        shownCards = new int[1 + seatCount][MAX_CARDS];
+        for (int[] row : shownCards) {
+            Arrays.fill(row, EMPTY_SLOT);
+        }
+        seatLabels = new JLabel[seatCount];
+        cardSize = fitCardSize(1 + seatCount);
+
+        BackgroundPanel background = new BackgroundPanel(); // create background container
+        background.setLayout(new BorderLayout(10, 10)); // set layout spacing
+        setContentPane(background); // assign background as content pane
+
+        loadBackgroundImage();
+
+        createTopPanel(background);
+        createCardPanel(background);
+        createButtonPanel(background);
+        setGlassPane(animator);
+        animator.setVisible(true);
+
+        pack();
+        setLocationRelativeTo(null);
+        setVisible(true);
+
+    }
+
+    private void loadBackgroundImage() {
+        try {
+            backgroundImage = ImageIO.read(getClass().getResourceAsStream("/tablebackground/table.jpg")); // load table
+                                                                                                          // image
+            this.setIconImage(backgroundImage); // set backgroundImage
+        } catch (IOException | IllegalArgumentException e) {
+            e.printStackTrace(); // log loading errors
+        }
+    }
+
+    /**
+     * Creates and adds the top panel containing the message banner and status
+     * labels.
+     * 
+     * @param background the main container to attach the panel to
+     */
+    private void createTopPanel(BackgroundPanel background) {
+        // Message label at top
+        messageLabel = new JLabel("Click Deal to begin", SwingConstants.CENTER);
+        messageLabel.setFont(MESSAGE_FONT);
+        // Status panel with totals and record
+        JPanel statusPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 20, 5));
+        playerTotalLabel = new JLabel("Player: 0");
+        dealerTotalLabel = new JLabel("Dealer: 0");
+        winLossLabel = new JLabel("Wins: 0 Losses: 0");
+        oddsLabel = new JLabel();
+        statusPanel.add(playerTotalLabel);
+        statusPanel.add(dealerTotalLabel);
+        statusPanel.add(oddsLabel);
+        statusPanel.add(winLossLabel);
+        // Combine into top panel
+        JPanel topPanel = new JPanel(new BorderLayout());
+        topPanel.add(messageLabel, BorderLayout.NORTH);
+        topPanel.add(statusPanel, BorderLayout.SOUTH);
+        background.add(topPanel, BorderLayout.NORTH);
+    }
+
+    /**
+     * Creates and adds the card grid panel with a dealer row and one row of
+     * slots per seat.
+     * 
+     * @param background the main container to attach the panel to
+     */
+    private void createCardPanel(BackgroundPanel background) {
+        cardPanel = new JPanel() {
+            @Override
+            public void paint(Graphics g) {
+                super.paint(g);
+                if (paintListener != null) {
+                    paintListener.run();
+                }
+            }
+        };
+        cardPanel.setOpaque(false);
+        cardPanel.setLayout(new BoxLayout(cardPanel, BoxLayout.Y_AXIS));
+        for (int row = 0; row < cardSlots.length; row++) {
+            cardPanel.add(makeCardRow(row));
+        }
+        background.add(cardPanel, BorderLayout.CENTER);
+        // rescale cards once the user stops resizing the window
+        resizeTimer = new Timer(RESIZE_DELAY_MS, e -> fitCardsToPanel());
+        resizeTimer.setRepeats(false);
+        cardPanel.addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                resizeTimer.restart();
+            }
+        });
+    }
+
+    /**
+     * Computes the card size for the given number of rows: the standard
+     * CARD_SIZE when it fits, otherwise scaled down keeping its aspect ratio.
+     * 
+     * @param rows number of card rows including the dealer's
+     * @return the card size to use for every slot
+     */
+    private static Dimension fitCardSize(int rows) {
+        int height = Math.min(CARD_SIZE.height, CARD_AREA_HEIGHT / rows - 2 * CARD_GRID_VGAP);
+        return snapCardSize(height * CARD_SIZE.width / CARD_SIZE.height);
+    }
+
+    /**
+     * Computes the largest card size that fits MAX_CARDS columns and the given
+     * number of rows into the given area.
+     * 
+     * @param rows   number of card rows including the dealer's
+     * @param width  width of the card area
+     * @param height height of the card area
+     * @return the card size to use for every slot
+     */
+    private static Dimension fitCardSize(int rows, int width, int height) {
+        int byWidth = (width - (MAX_CARDS + 2) * CARD_GRID_HGAP) / (MAX_CARDS + 1);
+        int byHeight = (height / rows - 2 * CARD_GRID_VGAP) * CARD_SIZE.width / CARD_SIZE.height;
+        return snapCardSize(Math.min(byWidth, byHeight));
+    }
+
+    // Helper: round a card width down to CARD_SIZE_STEP and derive its height
+    private static Dimension snapCardSize(int width) {
+        int snapped = Math.max(MIN_CARD_WIDTH, width / CARD_SIZE_STEP * CARD_SIZE_STEP);
+        return new Dimension(snapped, snapped * CARD_SIZE.height / CARD_SIZE.width);
+    }
+
+    /**
+     * Creates and adds the control button panel with Deal, Hit, Stand.
+     * 
+     * @param background the main container to attach the panel to
+     */
+    private void createButtonPanel(BackgroundPanel background) {
+        buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, BUTTON_HGAP, BUTTON_VGAP));
+        dealButton = makeButton("Deal");
+        hitButton = makeButton("Hit");
+        standButton = makeButton("Stand");
+        buttonPanel.add(dealButton);
+        buttonPanel.add(hitButton);
+        buttonPanel.add(standButton);
+        background.add(buttonPanel, BorderLayout.SOUTH);
+    }
+
+    // Helper: create a button with action command
+    private JButton makeButton(String label) {
+        JButton btn = new JButton(label);
+        btn.setActionCommand(label);
+        return btn;
+    }
+
+    // Helper: build a row of card slots
+    private JPanel makeCardRow(int rowIndex) {
+        JPanel row = new JPanel(new FlowLayout(FlowLayout.CENTER, CARD_GRID_HGAP, CARD_GRID_VGAP));
+        row.setOpaque(false);
+        if (rowIndex > 0 && seatLabels.length > 1) {
+            JLabel seatLabel = new JLabel("Seat " + rowIndex);
+            seatLabel.setForeground(Color.WHITE);
+            seatLabels[rowIndex - 1] = seatLabel;
+            row.add(seatLabel);
+        }
+        for (int col = 0; col < MAX_CARDS; col++) {
+            cardSlots[rowIndex][col] = new JLabel();
+            cardSlots[rowIndex][col].setHorizontalAlignment(SwingConstants.CENTER);
+            row.add(cardSlots[rowIndex][col]);
+        }
+        return row;
+    }
+
+    /**
+     * @return the Deal button for user input
+     */
+    public JButton getDealButton() {
+        return dealButton;
+    }
+
+    /**
+     * @return the Hit button for user input
+     */
+    public JButton getHitButton() {
+        return hitButton;
+    }
+
+    /**
+     * @return the Stand button for user input
+     */
+    public JButton getStandButton() {
+        return standButton;
+    }
+
+    /**
+     * Registers a hook run on the EDT every time the card panel or the card
+     * animator has finished painting, whether for a card change or for an
+     * animation frame. Used to measure input-to-paint latency.
+     *
+     * @param paintListener the hook, or null to remove it
+     */
+    public void setPaintListener(Runnable paintListener) {
+        this.paintListener = paintListener;
+        animator.setPaintListener(paintListener);
+    }
+
+    /**
+     * @return true when no card is being dealt or turned over
+     */
+    public boolean isAnimationIdle() {
+        return animator.isIdle();
+    }
+
+    /**
+     * @return the generation of the last card animation requested
+     * @see CardAnimator#getQueuedGeneration()
+     */
+    public long getQueuedAnimationGeneration() {
+        return animator.getQueuedGeneration();
+    }
+
+    /**
+     * @return the highest card animation generation shown so far
+     * @see CardAnimator#getVisibleGeneration()
+     */
+    public long getVisibleAnimationGeneration() {
+        return animator.getVisibleGeneration();
+    }
+
+    /**
+     * Launches the application by initializing model, view, and controller.
+     * 
+     * Set the system property metrics.port to serve metrics at
+     * http://localhost:PORT/metrics, and cards.atlas to play with a themed
+     * card atlas.
+     * 
+     * @param args optional seat count (1 to GameModel.MAX_SEATS, default 1)
+     */
+    public static void main(String[] args) {
+        String metricsPort = System.getProperty("metrics.port");
+        if (metricsPort != null) {
+            try {
+                new MetricsServer(Integer.parseInt(metricsPort)).start();
+            } catch (IOException e) {
+                e.printStackTrace(); // play on without metrics
+            }
+        }
+        int seatCount = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        GameModel model = new GameModel(seatCount);
+        EventBus events = new EventBus();
+        model.setEventBus(events);
+        HandHistoryRecorder history = null;
+        try {
+            history = new HandHistoryRecorder(Path.of(HandHistoryWriter.DEFAULT_PATH));
+            events.addConsumer("hand-history", history);
+        } catch (IOException e) {
+            e.printStackTrace(); // play on without a hand history
+        }
+        HandHistoryRecorder recorder = history;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            events.close();
+            if (recorder != null) {
+                try {
+                    recorder.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }, "event-bus-shutdown"));
+        GameView view = new GameView(model);
+        GameController controller = new GameController(model, view);
+        controller.initialize();
+        controller.updateInitialDisplay();
+    }
+
+    /**
+     * Chooses where card images come from: the packed atlas named by the
+     * system property cards.atlas (default AtlasCardImageProvider.DEFAULT_ATLAS),
+     * or the individual /cards images when no atlas was built. With an atlas,
+     * cards drawn wider than its cells still come from the individual images.
+     */
+    private static CardImageProvider cardImageProvider() {
+        CardImageProvider single = new ResourceCardImageProvider();
+        CardImageProvider atlas = AtlasCardImageProvider
+                .load(System.getProperty("cards.atlas", AtlasCardImageProvider.DEFAULT_ATLAS), single);
+        return atlas != null ? atlas : single;
+    }
+
+    /**
+     * Updates the top message label with provided text.
+     * 
+     * @param msg text to display
+     */
+    public void setMessage(String msg) {
+        messageLabel.setText(msg);
+    }
+
+    /**
+     * Displays a card's face at the given row and slot index.
+     * 
+     * @param row   0 for dealer, 1 + n for seat n
+     * @param index slot position for the card
+     * @param card  the card to show
+     */
+    public void showCard(int row, int index, Card card) {
+        showImage(row, index, card.getIndex());
+    }
+
+    /**
+     * Displays the card back (a face-down card) at the given row and slot index.
+     * 
+     * @param row   0 for dealer, 1 + n for seat n
+     * @param index slot position for the card
+     */
+    public void showCardBack(int row, int index) {
+        showImage(row, index, ScaledCardImageCache.BACK_INDEX);
+    }
+
+    /**
+     * Displays a scaled card image at the given row and slot index. A card
+     * arriving in an empty slot is dealt in with an animation, and a card back
+     * replaced by a face is flipped over; showing the image a slot already
+     * holds does nothing.
+     * 
+     * @param row        0 for dealer, 1 + n for seat n
+     * @param index      slot position for the card
+     * @param imageIndex card universe index, or BACK_INDEX for the back
+     */
+    private void showImage(int row, int index, int imageIndex) {
+        int previous = shownCards[row][index];
+        if (previous == imageIndex) {
+            return;
+        }
+        JLabel slot = cardSlots[row][index];
+        CardIcon icon = cardIcon(imageIndex);
+        slot.setPreferredSize(cardSize);
+        slot.revalidate();
+        shownCards[row][index] = imageIndex;
+        if (previous == EMPTY_SLOT) {
+            animator.deal(slot, icon);
+        } else if (previous == ScaledCardImageCache.BACK_INDEX) {
+            animator.flip(slot, icon, cardIcon(previous));
+        } else {
+            animator.finish(slot);
+            slot.setIcon(icon);
+        }
+    }
+
+    /**
+     * Returns an icon of the current card size whose image is scaled for the
+     * display's pixel density, so it stays sharp on HiDPI screens.
+     * 
+     * @param imageIndex card universe index, or BACK_INDEX for the back
+     * @return the icon
+     */
+    private CardIcon cardIcon(int imageIndex) {
+        double scale = 1.0;
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+        if (gc != null) {
+            scale = gc.getDefaultTransform().getScaleX();
+        }
+        int pixelWidth = (int) Math.round(cardSize.width * scale);
+        int pixelHeight = (int) Math.round(cardSize.height * scale);
+        return new CardIcon(cardImages.get(imageIndex, pixelWidth, pixelHeight), cardSize.width, cardSize.height);
+    }
+
+    /**
+     * Refits the card size to the card panel after a resize and redraws every
+     * shown card at the new size. Sizes are snapped to CARD_SIZE_STEP, so small
+     * resizes change nothing and earlier sizes come straight from the cache.
+     */
+    private void fitCardsToPanel() {
+        Dimension fitted = fitCardSize(cardSlots.length, cardPanel.getWidth(), cardPanel.getHeight());
+        if (fitted.equals(cardSize)) {
+            return;
+        }
+        animator.finishAll();
+        cardSize = fitted;
+        for (int row = 0; row < cardSlots.length; row++) {
+            for (int col = 0; col < MAX_CARDS; col++) {
+                JLabel slot = cardSlots[row][col];
+                if (slot.getPreferredSize().width > 0) {
+                    slot.setPreferredSize(cardSize);
+                }
+                if (shownCards[row][col] != EMPTY_SLOT) {
+                    slot.setIcon(cardIcon(shownCards[row][col]));
+                }
+            }
+        }
+        cardPanel.revalidate();
+        cardPanel.repaint();
+    }
+
+    /**
+     * Updates the label of a seat row and highlights it when it is that seat's
+     * turn. Does nothing on a single-seat table.
+     * 
+     * @param seat   the seat index
+     * @param text   text to display, e.g. the seat's total or result
+     * @param active true if the seat is the one to act
+     */
+    public void setSeatStatus(int seat, String text, boolean active) {
+        JLabel seatLabel = seatLabels[seat];
+        if (seatLabel == null) {
+            return;
+        }
+        seatLabel.setText(text);
+        seatLabel.setForeground(active ? Color.YELLOW : Color.WHITE);
+    }
+
+    /**
+     * Clears all card slots icons.
+     */
+    private void clearCardSlots() {
+        animator.cancelAll();
+        for (int row = 0; row < cardSlots.length; row++) {
+            for (int col = 0; col < MAX_CARDS; col++) {
+                cardSlots[row][col].setIcon(null);
+                shownCards[row][col] = EMPTY_SLOT;
+            }
+        }
+    }
+
+    /**
+     * Updates player and dealer total labels.
+     * 
+     * @param playerTotal player's total
+     * @param dealerTotal dealer's up-card value
+     */
+    private void setTotals(int playerTotal, int dealerTotal) {
+        playerTotalLabel.setText("Player: " + playerTotal);
+        dealerTotalLabel.setText("Dealer: " + dealerTotal);
+    }
+
+    /**
+     * Updates the displayed totals and win/loss record.
+     * 
+     * @param playerTotal current player total
+     * @param dealerUp    dealer's up-card value
+     * @param wins        total wins count
+     * @param losses      total losses count
+     */
+    public void updateStatus(int playerTotal, int dealerUp, int wins, int losses) {
+        setTotals(playerTotal, dealerUp);
+        winLossLabel.setText("Wins: " + wins + " Losses: " + losses);
+    }
+
+    /**
+     * Updates the odds shown next to the totals.
+     * 
+     * @param bust       probability that a hit busts the player's hand
+     * @param ten        probability that the next card is worth ten
+     * @param dealerBust probability that the dealer busts from the up card
+     */
+    public void setOdds(double bust, double ten, double dealerBust) {
+        oddsLabel.setText(String.format("Bust if hit: %.0f%%  Ten next: %.0f%%  Dealer busts: %.0f%%", bust * 100,
+                ten * 100, dealerBust * 100));
+    }
+
+    /**
+     * Hides the odds, e.g. between rounds.
+     */
+    public void clearOdds() {
+        oddsLabel.setText("");
+    }
+
+    /**
+     * Clears all card slots and resets totals and message to initial state.
+     */
+    public void resetBoard() {
+        clearCardSlots();
+        setMessage("Click Deal to begin");
+        setTotals(0, 0);
+        clearOdds();
+    }
+}
\ No newline at end of file
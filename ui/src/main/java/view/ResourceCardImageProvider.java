@@ -0,0 +1,122 @@
+package view;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import metrics.Metrics;
+import model.Card;
+
+/**
+ * Decodes card images from the /cards resources. Where a card also has a
+ * "2" variant (for example king_of_hearts2.png), the variant whose measured
+ * width best fits the requested size is chosen; widths are read from the
+ * image headers without decoding. Images are not retained here; callers cache
+ * what they draw (see {@link ScaledCardImageCache}).
+ */
+public class ResourceCardImageProvider implements CardImageProvider {
+
+    // Resource name of the card back
+    static final String BACK_KEY = "card_of_back";
+    // Suffix of the alternative variant of a card image
+    private static final String VARIANT_SUFFIX = "2";
+
+    // Measured width of each resource path; 0 if the resource does not exist
+    private final Map<String, Integer> widths = new ConcurrentHashMap<>();
+
+    @Override
+    public BufferedImage getFaceImage(Card card) {
+        return loadImage(path(card.getImageKey()));
+    }
+
+    @Override
+    public BufferedImage getBackImage() {
+        return loadImage(path(BACK_KEY));
+    }
+
+    @Override
+    public BufferedImage getFaceImage(Card card, int minWidth) {
+        return loadImage(bestPath(card.getImageKey(), minWidth));
+    }
+
+    @Override
+    public BufferedImage getBackImage(int minWidth) {
+        return loadImage(bestPath(BACK_KEY, minWidth));
+    }
+
+    // Helper: the variant of an image key best suited to the target width
+    private String bestPath(String imageKey, int minWidth) {
+        String base = path(imageKey);
+        String variant = path(imageKey + VARIANT_SUFFIX);
+        int baseWidth = width(base);
+        int variantWidth = width(variant);
+        if (variantWidth == 0 || variantWidth == baseWidth) {
+            return base;
+        }
+        boolean baseFits = baseWidth >= minWidth;
+        boolean variantFits = variantWidth >= minWidth;
+        if (baseFits && variantFits) {
+            return baseWidth <= variantWidth ? base : variant;
+        }
+        if (baseFits || variantFits) {
+            return baseFits ? base : variant;
+        }
+        return baseWidth >= variantWidth ? base : variant;
+    }
+
+    // Helper: resource path of an image key
+    private static String path(String imageKey) {
+        return "/cards/" + imageKey + ".png";
+    }
+
+    // Helper: width of a resource from its header, remembered per path
+    private int width(String path) {
+        return widths.computeIfAbsent(path, p -> {
+            try (InputStream in = ResourceCardImageProvider.class.getResourceAsStream(p)) {
+                if (in == null) {
+                    return 0;
+                }
+                try (ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+                    Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+                    if (!readers.hasNext()) {
+                        return 0;
+                    }
+                    ImageReader reader = readers.next();
+                    try {
+                        reader.setInput(iis);
+                        return reader.getWidth(0);
+                    } finally {
+                        reader.dispose();
+                    }
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+                return 0;
+            }
+        });
+    }
+
+    // Helper: decode an image resource, or null if it is missing or unreadable
+    private static BufferedImage loadImage(String path) {
+        long start = System.nanoTime();
+        try (InputStream in = ResourceCardImageProvider.class.getResourceAsStream(path)) {
+            if (in == null) {
+                System.err.println("Missing card image " + path);
+                return null;
+            }
+            return ImageIO.read(in);
+        } catch (IOException e) { // catch if a unexpected request comes in
+            e.printStackTrace();
+            return null;
+        } finally {
+            Metrics.IMAGE_LOAD.recordSince(start);
+        }
+    }
+}
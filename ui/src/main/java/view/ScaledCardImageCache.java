@@ -0,0 +1,171 @@
+package view;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import model.Card;
+
+/**
+ * Memory-bounded cache of card images scaled to the sizes the table draws.
+ *
+ * Entries are kept in least-recently-used order and evicted once their pixel
+ * memory exceeds the budget. Decoded source images live in the same LRU, so
+ * resizing into a new size only rescales from an already decoded source, and
+ * sizes seen before are served without any scaling at all. Callers should
+ * request a small set of sizes (GameView snaps card sizes to a step) so each
+ * size acts as a bucket.
+ */
+public class ScaledCardImageCache {
+
+    // Default pixel memory budget
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+    // Image index used for the card back; faces use the card's universe index
+    public static final int BACK_INDEX = Card.DECK_SIZE;
+
+    // A ScaledCardImageCache has-a provider for source images
+    private final CardImageProvider provider;
+    // Pixel memory budget in bytes
+    private final long maxBytes;
+    // Pixel memory currently held in bytes
+    private long usedBytes = 0;
+    // Cached images in access order; key packs image index, width and height
+    private final LinkedHashMap<Long, BufferedImage> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+    /**
+     * Creates a cache with the default budget.
+     *
+     * @param provider the source of full-size card images
+     */
+    public ScaledCardImageCache(CardImageProvider provider) {
+        this(provider, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Creates a cache with the given budget.
+     *
+     * @param provider the source of full-size card images
+     * @param maxBytes pixel memory budget in bytes
+     */
+    public ScaledCardImageCache(CardImageProvider provider, long maxBytes) {
+        this.provider = provider;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns an image of the given card face or back scaled to exactly the
+     * given size.
+     *
+     * @param imageIndex the card's universe index, or BACK_INDEX for the back
+     * @param width      width in device pixels
+     * @param height     height in device pixels
+     * @return the scaled image; a blank card if the provider has no image
+     */
+    public synchronized BufferedImage get(int imageIndex, int width, int height) {
+        long key = key(imageIndex, width, height);
+        BufferedImage scaled = entries.get(key);
+        if (scaled == null) {
+            scaled = scale(source(imageIndex, width), width, height);
+            put(key, scaled);
+        }
+        return scaled;
+    }
+
+    /**
+     * @return the pixel memory currently held, in bytes
+     */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    // Helper: the decoded source for an image, loading a wider variant if needed
+    private BufferedImage source(int imageIndex, int minWidth) {
+        long key = key(imageIndex, 0, 0);
+        BufferedImage source = entries.get(key);
+        if (source == null || source.getWidth() < minWidth) {
+            BufferedImage loaded = imageIndex == BACK_INDEX ? provider.getBackImage(minWidth)
+                    : provider.getFaceImage(Card.of(imageIndex), minWidth);
+            if (loaded == null) {
+                if (source != null) {
+                    return source; // keep drawing the narrower image we have
+                }
+                System.err.println("No card image for index " + imageIndex + "; drawing a blank card");
+                loaded = placeholder(minWidth);
+            }
+            if (source == null || loaded.getWidth() > source.getWidth()) {
+                source = loaded;
+                put(key, source);
+            }
+        }
+        return source;
+    }
+
+    // Helper: a plain card-shaped image for a card whose image could not be loaded
+    private static BufferedImage placeholder(int width) {
+        int w = Math.max(width, 1);
+        int h = Math.max(w * 3 / 2, 1);
+        BufferedImage image = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, w, h);
+        g.setColor(Color.GRAY);
+        g.drawRect(0, 0, w - 1, h - 1);
+        g.dispose();
+        return image;
+    }
+
+    // Helper: add an entry and evict least recently used ones over budget
+    private void put(long key, BufferedImage image) {
+        BufferedImage old = entries.put(key, image);
+        if (old != null) {
+            usedBytes -= bytes(old);
+        }
+        usedBytes += bytes(image);
+        Iterator<Map.Entry<Long, BufferedImage>> eldest = entries.entrySet().iterator();
+        while (usedBytes > maxBytes && entries.size() > 1) {
+            Map.Entry<Long, BufferedImage> entry = eldest.next();
+            if (entry.getKey() == key) {
+                continue;
+            }
+            usedBytes -= bytes(entry.getValue());
+            eldest.remove();
+        }
+    }
+
+    // Helper: pack an image index and size into a cache key
+    private static long key(int imageIndex, int width, int height) {
+        return ((long) imageIndex << 40) | ((long) width << 20) | height;
+    }
+
+    // Helper: approximate pixel memory of an image
+    private static long bytes(BufferedImage image) {
+        return 4L * image.getWidth() * image.getHeight();
+    }
+
+    /**
+     * Scales an image by repeated halving with bilinear filtering, then one
+     * final bilinear step, which keeps quality close to area averaging at a
+     * fraction of the cost.
+     */
+    static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+        do {
+            w = w / 2 >= width ? w / 2 : width;
+            h = h / 2 >= height ? h / 2 : height;
+            BufferedImage next = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = next.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(current, 0, 0, w, h, null);
+            g.dispose();
+            current = next;
+        } while (w != width || h != height);
+        return current;
+    }
+}
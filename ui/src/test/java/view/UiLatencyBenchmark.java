@@ -0,0 +1,203 @@
+package view;
+
+import java.awt.event.ActionEvent;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JButton;
+import javax.swing.SwingUtilities;
+
+import controller.GameController;
+import metrics.LatencyHistogram;
+import metrics.Metrics;
+import model.Deck;
+import model.GameModel;
+
+/**
+ * Measures input-to-paint latency of the Swing table.
+ *
+ * A driver thread posts synthetic Deal/Hit/Stand ActionEvents to
+ * GameController.actionPerformed at a fixed rate, playing every seat like the
+ * dealer (hit below 17). For each action two latencies are recorded from the
+ * moment the event is posted, so EDT queueing counts:
+ * - paint: until the first paint that shows the action's change: for an
+ *   action that deals or turns a card, a paint after the first of its cards
+ *   is drawn in flight (or lands), not a leftover frame of an earlier
+ *   action; otherwise the next paint of the table;
+ * - settled: until the table has painted with no animation left running,
+ *   i.e. every card has landed.
+ *
+ * It needs a display, but not a screen: on a plain Linux box run it under
+ * Xvfb. UiLatencyTest runs a short pass as part of the build whenever a
+ * display is available; for a full report, run this class from the test
+ * classpath, for example
+ * xvfb-run java -cp ui/target/test-classes:ui/target/classes:core/target/classes
+ * view.UiLatencyBenchmark 500 10
+ *
+ * The table plays without saving the record or round snapshot.
+ *
+ * Usage: UiLatencyBenchmark [actions] [actions-per-second] [seats]
+ */
+public class UiLatencyBenchmark {
+
+    // Time allowed for the last actions to settle before reporting
+    private static final long DRAIN_TIMEOUT_MS = 10_000;
+    private static final String[] COMMANDS = { "Deal", "Hit", "Stand" };
+
+    // A UiLatencyBenchmark has-a table under test
+    private final GameModel model;
+    private GameView view;
+    private GameController controller;
+    // Latency to first paint and to settled paint, per command
+    private final LatencyHistogram[] paint = new LatencyHistogram[COMMANDS.length];
+    private final LatencyHistogram[] settled = new LatencyHistogram[COMMANDS.length];
+    // Actions posted but not yet painted / settled; EDT only. Each entry is
+    // {command index, posted nanos, animation generation its paint must show}
+    private final ArrayDeque<long[]> awaitingPaint = new ArrayDeque<>();
+    private final ArrayDeque<long[]> awaitingSettle = new ArrayDeque<>();
+    // Counts down as actions settle
+    private CountDownLatch remaining;
+
+    /**
+     * @param seatCount number of seats at the table
+     */
+    public UiLatencyBenchmark(int seatCount) {
+        int deckCount = seatCount > 1 ? GameModel.MULTI_SEAT_DECKS : 1;
+        model = new GameModel(seatCount, new Deck(deckCount, new Random(), true), null);
+        for (int i = 0; i < COMMANDS.length; i++) {
+            String name = COMMANDS[i].toLowerCase();
+            paint[i] = new LatencyHistogram(name + "_paint", "Input to first paint");
+            settled[i] = new LatencyHistogram(name + "_settled", "Input to last animation frame");
+        }
+    }
+
+    /**
+     * Opens the table, posts the given number of actions at the given rate,
+     * waits for them to settle, and closes the table.
+     *
+     * @param actions          number of actions to post
+     * @param actionsPerSecond posting rate
+     * @return the number of actions that never settled
+     * @throws InterruptedException if interrupted while waiting
+     * @throws InvocationTargetException if the table fails to open
+     */
+    public long run(int actions, double actionsPerSecond)
+            throws InterruptedException, InvocationTargetException {
+        SwingUtilities.invokeAndWait(() -> {
+            view = new GameView(model);
+            controller = new GameController(model, view);
+            view.setPaintListener(this::painted);
+        });
+        remaining = new CountDownLatch(actions);
+        ScheduledExecutorService driver = Executors.newSingleThreadScheduledExecutor();
+        long periodNanos = (long) (1e9 / actionsPerSecond);
+        int[] posted = { 0 };
+        CountDownLatch allPosted = new CountDownLatch(1);
+        driver.scheduleAtFixedRate(() -> {
+            if (posted[0]++ >= actions) {
+                allPosted.countDown();
+                return;
+            }
+            long start = System.nanoTime();
+            SwingUtilities.invokeLater(() -> act(start));
+        }, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+        allPosted.await();
+        driver.shutdown();
+        if (!remaining.await(DRAIN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+            System.err.println(remaining.getCount() + " actions never settled");
+        }
+        SwingUtilities.invokeAndWait(() -> view.dispose());
+        return remaining.getCount();
+    }
+
+    /**
+     * @param command 0 for Deal, 1 for Hit, 2 for Stand
+     * @return the input-to-first-paint latencies recorded for the command
+     */
+    public LatencyHistogram getPaintLatency(int command) {
+        return paint[command];
+    }
+
+    // Helper: choose and perform the next action on the EDT
+    private void act(long start) {
+        int command;
+        if (!model.isRoundActive()) {
+            command = 0;
+        } else {
+            int seat = model.getActiveSeat();
+            command = model.getSeat(seat).calculateHandValue() < 17 ? 1 : 2;
+        }
+        JButton source = command == 0 ? view.getDealButton() : command == 1 ? view.getHitButton()
+                : view.getStandButton();
+        long before = view.getQueuedAnimationGeneration();
+        controller.actionPerformed(new ActionEvent(source, ActionEvent.ACTION_PERFORMED, COMMANDS[command]));
+        // an action that animated a card is visible once its first animation is
+        long target = view.getQueuedAnimationGeneration() > before ? before + 1 : 0;
+        long[] pending = { command, start, target };
+        awaitingPaint.add(pending);
+        awaitingSettle.add(pending);
+    }
+
+    // Helper: the table painted; complete the actions whose change it showed
+    private void painted() {
+        long now = System.nanoTime();
+        long visible = view.getVisibleAnimationGeneration();
+        for (Iterator<long[]> it = awaitingPaint.iterator(); it.hasNext();) {
+            long[] pending = it.next();
+            if (pending[2] <= visible) {
+                paint[(int) pending[0]].record(now - pending[1]);
+                it.remove();
+            }
+        }
+        if (view.isAnimationIdle()) {
+            for (long[] pending; (pending = awaitingSettle.poll()) != null;) {
+                settled[(int) pending[0]].record(now - pending[1]);
+                remaining.countDown();
+            }
+        }
+    }
+
+    /**
+     * Prints the latency distribution of every measured command.
+     */
+    public void report() {
+        System.out.printf("%-14s %7s %9s %9s %9s %9s%n", "latency", "count", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (int i = 0; i < COMMANDS.length; i++) {
+            print(paint[i]);
+            print(settled[i]);
+        }
+        System.out.println("card images decoded during the run: " + Metrics.IMAGE_LOAD.getCount());
+    }
+
+    // Helper: one report line
+    private static void print(LatencyHistogram h) {
+        if (h.getCount() == 0) {
+            return;
+        }
+        System.out.printf("%-14s %7d %9.2f %9.2f %9.2f %9.2f%n", h.getName(), h.getCount(),
+                h.getValueAtPercentile(50) / 1e6, h.getValueAtPercentile(90) / 1e6,
+                h.getValueAtPercentile(99) / 1e6, h.getMax() / 1e6);
+    }
+
+    /**
+     * Runs the benchmark and prints the report.
+     *
+     * @param args [actions] [actions-per-second] [seats]
+     * @throws Exception if the table cannot be driven
+     */
+    public static void main(String[] args) throws Exception {
+        int actions = args.length > 0 ? Integer.parseInt(args[0]) : 300;
+        double rate = args.length > 1 ? Double.parseDouble(args[1]) : 10.0;
+        int seats = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+        UiLatencyBenchmark benchmark = new UiLatencyBenchmark(seats);
+        benchmark.run(actions, rate);
+        benchmark.report();
+        System.exit(0);
+    }
+}
@@ -0,0 +1,25 @@
+package view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import java.awt.GraphicsEnvironment;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Drives the Swing table through a short UiLatencyBenchmark pass: every
+ * posted action must be painted and settle. Skipped without a display.
+ */
+class UiLatencyTest {
+
+    @Test
+    void everyActionPaintsAndSettles() throws Exception {
+        assumeFalse(GraphicsEnvironment.isHeadless(), "needs a display");
+        UiLatencyBenchmark benchmark = new UiLatencyBenchmark(3);
+        assertEquals(0, benchmark.run(60, 20.0));
+        assertTrue(benchmark.getPaintLatency(0).getCount() > 0);
+        benchmark.report();
+    }
+}